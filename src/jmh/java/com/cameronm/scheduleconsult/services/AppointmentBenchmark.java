@@ -0,0 +1,77 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.DAO.DBModels;
+import com.cameronm.scheduleconsult.Main;
+import com.cameronm.scheduleconsult.models.Appointment;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The AppointmentBenchmark class measures the cost of reading a single appointment from a row and of rendering it as
+ * text, as is done for every appointment shown in the alerts and reports
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppointmentBenchmark {
+
+    /**
+     * The result set positioned on a row of the appointments table
+     */
+    private ResultSet results;
+
+    /**
+     * The column index of each appointment attribute in the result set
+     */
+    private ColumnIndexes columns;
+
+    /**
+     * The appointment rendered
+     */
+    private Appointment appointment;
+
+    /**
+     * The setUp method sets the server to UTC as it is in production and positions a result set on an appointment
+     *
+     * @throws SQLException Throws SQLException if the result set is invalid
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Main.serverZoneID = ZoneId.of("UTC");
+        results = InMemoryResultSet.of(DBModels.APPOINTMENTS, 1, 42);
+        results.next();
+        columns = new ColumnIndexes(DBModels.APPOINTMENTS, results.getMetaData());
+        appointment = AppointmentQueryService.getAppointment(results, columns);
+    }
+
+    /**
+     * The getAppointment method reads the appointment of the current row
+     *
+     * @return Returns the appointment
+     * @throws SQLException Throws SQLException if the row could not be read
+     */
+    @Benchmark
+    public Appointment getAppointment() throws SQLException {
+        return AppointmentQueryService.getAppointment(results, columns);
+    }
+
+    /**
+     * The appointmentToString method renders the appointment as text
+     *
+     * @return Returns the text of the appointment
+     */
+    @Benchmark
+    public String appointmentToString() {
+        return appointment.toString();
+    }
+}
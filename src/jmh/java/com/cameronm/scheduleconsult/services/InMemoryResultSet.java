@@ -0,0 +1,156 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.DAO.DBModels;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The InMemoryResultSet class stands in for the result set of a select from a table, holding generated rows in memory
+ * so the row mapping can be measured without the cost of a database or network. Only the methods the row mappers
+ * call are supported.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+final class InMemoryResultSet implements InvocationHandler {
+
+    /**
+     * The column names of the table in the order they are selected
+     */
+    private final List<String> columns;
+
+    /**
+     * The values of each row by column
+     */
+    private final Object[][] rows;
+
+    /**
+     * The index of the current row, or -1 before the first row
+     */
+    private int row = -1;
+
+    /**
+     * The InMemoryResultSet constructor
+     *
+     * @param columns The column names of the table
+     * @param rows    The values of each row by column
+     */
+    private InMemoryResultSet(List<String> columns, Object[][] rows) {
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * The of method returns a result set of generated rows of a table. The rows are the same for the same seed.
+     *
+     * @param dbModel  The model of the table
+     * @param rowCount The number of rows
+     * @param seed     The seed of the generated values
+     * @return Returns the result set, positioned before the first row
+     */
+    static ResultSet of(DBModels dbModel, int rowCount, long seed) {
+        List<String> columns = new ArrayList<>(dbModel.getAttributes()
+                                                      .values());
+        String idColumn = dbModel.getAttributes()
+                                 .get("id");
+        Random random = new Random(seed);
+        LocalDateTime firstStart = LocalDateTime.of(2023, 1, 2, 8, 0);
+        Object[][] rows = new Object[rowCount][columns.size()];
+        for (int i = 0; i < rowCount; i++) {
+            LocalDateTime start = firstStart.plusMinutes(15L * random.nextInt(100_000));
+            for (int j = 0; j < columns.size(); j++) {
+                rows[i][j] = value(columns.get(j), idColumn, i + 1, start, random);
+            }
+        }
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                                                  new Class<?>[]{ResultSet.class},
+                                                  new InMemoryResultSet(columns, rows));
+    }
+
+    /**
+     * The value method returns a generated value of a column
+     *
+     * @param column   The name of the column
+     * @param idColumn The name of the primary key column of the table, which is given the ID of the row
+     * @param id       The ID of the row
+     * @param start    The start of the appointment of the row
+     * @param random   The source of the generated values
+     * @return Returns the value of the column
+     */
+    private static Object value(String column, String idColumn, int id, LocalDateTime start, Random random) {
+        if (column.equals("End")) {
+            return start.plusMinutes(15L * (1 + random.nextInt(8)));
+        }
+        if (column.equals("Start") || column.endsWith("_Date") || column.equals("Last_Update")) {
+            return start;
+        }
+        if (column.endsWith("_ID")) {
+            return column.equals(idColumn) ? id : 1 + random.nextInt(100);
+        }
+        return column + " " + random.nextInt(1_000);
+    }
+
+    /**
+     * The invoke method runs the supported result set methods against the rows held in memory
+     *
+     * @param proxy  The result set
+     * @param method The method called
+     * @param args   The arguments of the call
+     * @return Returns the result of the call
+     * @throws SQLException Throws SQLException if the method is not supported
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+        return switch (method.getName()) {
+            case "next" -> ++row < rows.length;
+            case "beforeFirst" -> {
+                row = -1;
+                yield null;
+            }
+            case "getInt" -> ((Number) column(args[0])).intValue();
+            case "getString" -> (String) column(args[0]);
+            case "getObject" -> column(args[0]);
+            case "getMetaData" -> metaData();
+            case "wasNull" -> false;
+            case "close" -> null;
+            case "isClosed" -> false;
+            default -> throw new SQLException("Unsupported by the in-memory result set: " + method.getName());
+        };
+    }
+
+    /**
+     * The column method returns a value of the current row
+     *
+     * @param column The index of the column from 1, or its name
+     * @return Returns the value
+     */
+    private Object column(Object column) {
+        int index = column instanceof Integer columnIndex ? columnIndex - 1 : columns.indexOf(column);
+        return rows[row][index];
+    }
+
+    /**
+     * The metaData method returns the metadata of the result set, which only has the names of its columns
+     *
+     * @return Returns the metadata
+     */
+    private ResultSetMetaData metaData() {
+        return (ResultSetMetaData) Proxy.newProxyInstance(
+                ResultSetMetaData.class.getClassLoader(),
+                new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> columns.size();
+                    case "getColumnLabel", "getColumnName" -> columns.get((Integer) args[0] - 1);
+                    default -> throw new SQLException("Unsupported by the in-memory metadata: " + method.getName());
+                });
+    }
+}
@@ -0,0 +1,92 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.DAO.DBModels;
+import com.cameronm.scheduleconsult.Main;
+import com.cameronm.scheduleconsult.models.NamedEntity;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The RowMappingBenchmark class measures the cost of converting the rows of each table into entities, which is the
+ * work QueryService.getEntities does for every row once the database has returned it. The rows are read from an
+ * in-memory result set, so only the mapping is measured.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    /**
+     * The model of the table whose rows are mapped
+     */
+    @Param({"APPOINTMENTS", "CONTACTS", "COUNTRIES", "CUSTOMERS", "DIVISIONS", "USERS"})
+    public DBModels model;
+
+    /**
+     * The number of rows mapped by each call
+     */
+    @Param({"1000"})
+    public int rowCount;
+
+    /**
+     * The result set holding the rows
+     */
+    private ResultSet results;
+
+    /**
+     * The setUp method generates the rows of the table, with the server in UTC as it is in production
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Main.serverZoneID = ZoneId.of("UTC");
+        results = InMemoryResultSet.of(model, rowCount, 42);
+    }
+
+    /**
+     * The mapRows method maps every row of the result set the way QueryService.readEntities does
+     *
+     * @param blackhole The sink of the entities
+     * @throws SQLException Throws SQLException if a row could not be mapped
+     */
+    @Benchmark
+    public void mapRows(Blackhole blackhole) throws SQLException {
+        results.beforeFirst();
+        RowMapper<NamedEntity> rowMapper = QueryService.rowMapper(model);
+        ColumnIndexes columns = new ColumnIndexes(model, results.getMetaData());
+        while (results.next()) {
+            blackhole.consume(rowMapper.mapRow(results, columns));
+        }
+    }
+
+    /**
+     * The mapRowsToList method maps every row of the result set into an observable list the way
+     * QueryService.getEntities does
+     *
+     * @return Returns the list of entities
+     * @throws SQLException Throws SQLException if a row could not be mapped
+     */
+    @Benchmark
+    public ObservableList<NamedEntity> mapRowsToList() throws SQLException {
+        results.beforeFirst();
+        ObservableList<NamedEntity> entities = FXCollections.observableArrayList();
+        RowMapper<NamedEntity> rowMapper = QueryService.rowMapper(model);
+        ColumnIndexes columns = new ColumnIndexes(model, results.getMetaData());
+        while (results.next()) {
+            entities.add(rowMapper.mapRow(results, columns));
+        }
+        return entities;
+    }
+}
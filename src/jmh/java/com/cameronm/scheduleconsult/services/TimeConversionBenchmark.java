@@ -0,0 +1,91 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.DAO.DBModels;
+import com.cameronm.scheduleconsult.Main;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The TimeConversionBenchmark class measures the cost of the timezone conversions run for every timestamp read from or
+ * written to the database
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeConversionBenchmark {
+
+    /**
+     * The timestamp converted
+     */
+    private Timestamp timestamp;
+
+    /**
+     * The result set positioned on a row of the appointments table
+     */
+    private ResultSet results;
+
+    /**
+     * The column index of the start of the appointment in the result set
+     */
+    private int startColumn;
+
+    /**
+     * The setUp method sets the server to UTC as it is in production and positions a result set on an appointment
+     *
+     * @throws SQLException Throws SQLException if the result set is invalid
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Main.serverZoneID = ZoneId.of("UTC");
+        timestamp = Timestamp.valueOf(LocalDateTime.of(2023, 3, 6, 14, 30));
+        results = InMemoryResultSet.of(DBModels.APPOINTMENTS, 1, 42);
+        results.next();
+        startColumn = new ColumnIndexes(DBModels.APPOINTMENTS, results.getMetaData()).of("start");
+    }
+
+    /**
+     * The convertFromServerTime method converts a timestamp from the server timezone to the local timezone
+     *
+     * @return Returns the converted timestamp
+     */
+    @Benchmark
+    public Timestamp convertFromServerTime() {
+        return TimeConversionService.convertFromServerTime(timestamp);
+    }
+
+    /**
+     * The convertTime method converts a timestamp from the local timezone to the timezone of the company
+     *
+     * @return Returns the converted timestamp
+     */
+    @Benchmark
+    public Timestamp convertTime() {
+        return TimeConversionService.convertTime(timestamp,
+                                                 TimeConversionService.LOCAL_ZONE_ID,
+                                                 TimeConversionService.COMPANY_ZONE_ID);
+    }
+
+    /**
+     * The getServerTimestamp method reads a datetime column and converts it from server time, as is done for each
+     * timestamp of every row mapped
+     *
+     * @return Returns the timestamp in the local timezone
+     * @throws SQLException Throws SQLException if the column could not be read
+     */
+    @Benchmark
+    public Timestamp getServerTimestamp() throws SQLException {
+        return QueryService.getServerTimestamp(results, startColumn);
+    }
+}
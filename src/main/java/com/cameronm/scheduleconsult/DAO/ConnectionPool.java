@@ -0,0 +1,581 @@
+package com.cameronm.scheduleconsult.DAO;
+
+import com.cameronm.scheduleconsult.settings.DatabaseConfig;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The ConnectionPool class keeps a bounded set of physical database connections that are lent out to callers and
+ * returned when the caller closes them. Connections are validated when borrowed, evicted after sitting idle and
+ * recycled once they reach their maximum lifetime. The pool settings are located within the settings package.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public class ConnectionPool implements DatabaseConfig {
+
+    /**
+     * The full URL for accessing the database
+     */
+    private final String jdbcUrl;
+
+    /**
+     * The username used to open physical connections
+     */
+    private final String userName;
+
+    /**
+     * The password used to open physical connections
+     */
+    private final String password;
+
+    /**
+     * The statement executed on every new physical connection before it is lent out
+     */
+    private final String sessionInitQuery;
+
+    /**
+     * The lock guarding the idle connections and the connection count
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The condition signalled whenever a connection is returned or a slot frees up
+     */
+    private final Condition connectionAvailable = lock.newCondition();
+
+    /**
+     * The connections waiting to be borrowed, most recently used first
+     */
+    private final Deque<PooledConnection> idleConnections = new ArrayDeque<>();
+
+    /**
+     * The number of physical connections that are open or being opened
+     */
+    private int totalConnections;
+
+    /**
+     * Boolean specifying if the pool has been closed
+     */
+    private boolean closed;
+
+    /**
+     * The background task that evicts idle and expired connections
+     */
+    private final ScheduledExecutorService housekeeper;
+
+    /**
+     * The number of connections borrowed from the pool
+     */
+    private final LongAdder borrowCount = new LongAdder();
+
+    /**
+     * The number of borrows that had to wait for a connection to be returned
+     */
+    private final LongAdder waitCount = new LongAdder();
+
+    /**
+     * The number of borrows that gave up waiting for a connection
+     */
+    private final LongAdder timeoutCount = new LongAdder();
+
+    /**
+     * The number of physical connections opened by the pool
+     */
+    private final LongAdder createdCount = new LongAdder();
+
+    /**
+     * The number of physical connections closed by the pool
+     */
+    private final LongAdder evictedCount = new LongAdder();
+
+    /**
+     * The number of prepared statements served from the statement caches
+     */
+    private final LongAdder statementCacheHits = new LongAdder();
+
+    /**
+     * The number of prepared statements that had to be prepared by the statement caches
+     */
+    private final LongAdder statementCacheMisses = new LongAdder();
+
+    /**
+     * The total time in nanoseconds that callers spent waiting for a connection
+     */
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+
+    /**
+     * The longest time in nanoseconds that a caller spent waiting for a connection
+     */
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * The constructor for the ConnectionPool class
+     *
+     * @param jdbcUrl          The full URL for accessing the database
+     * @param userName         The username used to open physical connections
+     * @param password         The password used to open physical connections
+     * @param sessionInitQuery The statement executed on every new physical connection, may be null
+     */
+    public ConnectionPool(String jdbcUrl, String userName, String password, String sessionInitQuery) {
+        this.jdbcUrl = jdbcUrl;
+        this.userName = userName;
+        this.password = password;
+        this.sessionInitQuery = sessionInitQuery;
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::evictIdleConnections,
+                                           DB_POOL_HOUSEKEEPING_MILLIS,
+                                           DB_POOL_HOUSEKEEPING_MILLIS,
+                                           TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * The borrow method lends out a connection from the pool, opening a new one if the pool is not full and waiting
+     * for one to be returned if it is. The connection goes back to the pool when the caller closes it.
+     *
+     * @return Returns a validated connection to the database
+     * @throws SQLException Throws SQLException if no connection could be obtained in time
+     */
+    public Connection borrow() throws SQLException {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(DB_POOL_BORROW_TIMEOUT_MILLIS);
+        boolean waited = false;
+        while (true) {
+            PooledConnection pooled;
+            boolean openNew = false;
+            lock.lock();
+            try {
+                if (closed) {
+                    throw new SQLException("The connection pool is closed");
+                }
+                pooled = idleConnections.pollFirst();
+                if (pooled == null) {
+                    if (totalConnections < DB_POOL_MAX_SIZE) {
+                        totalConnections++;
+                        openNew = true;
+                    } else {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            timeoutCount.increment();
+                            throw new SQLTimeoutException("Timed out after " + DB_POOL_BORROW_TIMEOUT_MILLIS +
+                                                                  "ms waiting for a database connection");
+                        }
+                        waited = true;
+                        connectionAvailable.awaitNanos(remaining);
+                        continue;
+                    }
+                }
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread()
+                      .interrupt();
+                throw new SQLException("Interrupted while waiting for a database connection", interruptedException);
+            } finally {
+                lock.unlock();
+            }
+            if (openNew) {
+                pooled = openConnection();
+            } else if (!isUsable(pooled)) {
+                discard(pooled);
+                continue;
+            }
+            recordBorrow(startNanos, waited);
+            return pooled.lease();
+        }
+    }
+
+    /**
+     * The openConnection method opens a new physical connection for a slot that was already reserved
+     *
+     * @return Returns the new pooled connection
+     * @throws SQLException Throws SQLException if the connection could not be opened
+     */
+    private PooledConnection openConnection() throws SQLException {
+        try {
+            Connection physical = DriverManager.getConnection(jdbcUrl, userName, password);
+            if (sessionInitQuery != null) {
+                try (Statement statement = physical.createStatement()) {
+                    statement.execute(sessionInitQuery);
+                }
+            }
+            createdCount.increment();
+            return new PooledConnection(physical);
+        } catch (SQLException sqlException) {
+            releaseSlot();
+            throw sqlException;
+        }
+    }
+
+    /**
+     * The isUsable method checks that an idle connection has not expired and is still alive
+     *
+     * @param pooled The connection being checked
+     * @return Returns a boolean specifying if the connection can be lent out
+     */
+    private boolean isUsable(PooledConnection pooled) {
+        long now = System.currentTimeMillis();
+        if (pooled.isExpired(now)) {
+            return false;
+        }
+        if (now - pooled.lastReturnedMillis < DB_POOL_VALIDATION_BYPASS_MILLIS) {
+            return true;
+        }
+        try {
+            return pooled.physical.isValid(DB_POOL_VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException sqlException) {
+            return false;
+        }
+    }
+
+    /**
+     * The release method returns a connection to the pool once its borrower has closed it
+     *
+     * @param pooled The connection being returned
+     */
+    private void release(PooledConnection pooled) {
+        try {
+            if (!pooled.physical.getAutoCommit()) {
+                pooled.physical.rollback();
+                pooled.physical.setAutoCommit(true);
+            }
+        } catch (SQLException sqlException) {
+            discard(pooled);
+            return;
+        }
+        pooled.lastReturnedMillis = System.currentTimeMillis();
+        if (pooled.isExpired(pooled.lastReturnedMillis)) {
+            discard(pooled);
+            return;
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                closeQuietly(pooled);
+                totalConnections--;
+                return;
+            }
+            idleConnections.offerFirst(pooled);
+            connectionAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The discard method closes a connection and frees its slot in the pool
+     *
+     * @param pooled The connection being discarded
+     */
+    private void discard(PooledConnection pooled) {
+        closeQuietly(pooled);
+        releaseSlot();
+    }
+
+    /**
+     * The releaseSlot method frees a slot in the pool and wakes up a waiting borrower
+     */
+    private void releaseSlot() {
+        lock.lock();
+        try {
+            totalConnections--;
+            connectionAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The closeQuietly method closes a physical connection, ignoring any errors
+     *
+     * @param pooled The connection being closed
+     */
+    private void closeQuietly(PooledConnection pooled) {
+        evictedCount.increment();
+        try {
+            pooled.physical.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /**
+     * The evictIdleConnections method closes connections that have been idle too long or reached their lifetime,
+     * keeping at least the minimum number of idle connections open
+     */
+    private void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        lock.lock();
+        try {
+            Iterator<PooledConnection> oldestFirst = idleConnections.descendingIterator();
+            while (oldestFirst.hasNext()) {
+                PooledConnection pooled = oldestFirst.next();
+                boolean idleTooLong = now - pooled.lastReturnedMillis > DB_POOL_IDLE_TIMEOUT_MILLIS &&
+                        idleConnections.size() > DB_POOL_MIN_IDLE;
+                if (idleTooLong || pooled.isExpired(now)) {
+                    oldestFirst.remove();
+                    closeQuietly(pooled);
+                    totalConnections--;
+                    evicted++;
+                }
+            }
+            if (evicted > 0) {
+                connectionAvailable.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The recordBorrow method records the metrics of a successful borrow
+     *
+     * @param startNanos The time the borrow started
+     * @param waited     Boolean specifying if the borrower had to wait for a connection
+     */
+    private void recordBorrow(long startNanos, boolean waited) {
+        borrowCount.increment();
+        if (waited) {
+            long waitNanos = System.nanoTime() - startNanos;
+            waitCount.increment();
+            totalWaitNanos.addAndGet(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+    }
+
+    /**
+     * The close method closes every idle connection and stops lending out new ones. Borrowed connections are closed
+     * when they are returned.
+     */
+    public void close() {
+        housekeeper.shutdownNow();
+        lock.lock();
+        try {
+            closed = true;
+            while (!idleConnections.isEmpty()) {
+                closeQuietly(idleConnections.pollFirst());
+                totalConnections--;
+            }
+            connectionAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The getStatistics method returns a snapshot of the pool size and wait metrics
+     *
+     * @return Returns the statistics of the pool
+     */
+    public PoolStatistics getStatistics() {
+        lock.lock();
+        try {
+            return new PoolStatistics(totalConnections - idleConnections.size(),
+                                      idleConnections.size(),
+                                      lock.getWaitQueueLength(connectionAvailable),
+                                      borrowCount.sum(),
+                                      waitCount.sum(),
+                                      timeoutCount.sum(),
+                                      createdCount.sum(),
+                                      evictedCount.sum(),
+                                      TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get()),
+                                      TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()),
+                                      statementCacheHits.sum(),
+                                      statementCacheMisses.sum());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The PoolStatistics record is a snapshot of the size of the pool and how long borrowers waited for connections
+     *
+     * @param active          The number of connections currently lent out
+     * @param idle            The number of connections waiting to be borrowed
+     * @param waiting         The number of borrowers currently waiting for a connection
+     * @param borrowed        The number of connections borrowed since the pool was opened
+     * @param waited          The number of borrows that had to wait for a connection
+     * @param timedOut        The number of borrows that gave up waiting for a connection
+     * @param created         The number of physical connections opened
+     * @param evicted         The number of physical connections closed
+     * @param totalWaitMillis The total time borrowers spent waiting for a connection
+     * @param maxWaitMillis   The longest time a borrower spent waiting for a connection
+     * @param statementHits   The number of prepared statements served from the statement caches
+     * @param statementMisses The number of prepared statements that had to be prepared
+     */
+    public record PoolStatistics(int active,
+                                 int idle,
+                                 int waiting,
+                                 long borrowed,
+                                 long waited,
+                                 long timedOut,
+                                 long created,
+                                 long evicted,
+                                 long totalWaitMillis,
+                                 long maxWaitMillis,
+                                 long statementHits,
+                                 long statementMisses) {
+
+        /**
+         * The toString method returns a one line summary of the statistics
+         *
+         * @return Returns a summary of the statistics
+         */
+        @Override
+        public String toString() {
+            return String.format("active=%d idle=%d waiting=%d borrowed=%d waited=%d timedOut=%d created=%d " +
+                                         "evicted=%d totalWait=%dms maxWait=%dms statementHits=%d " +
+                                         "statementMisses=%d",
+                                 active, idle, waiting, borrowed, waited, timedOut, created, evicted,
+                                 totalWaitMillis, maxWaitMillis, statementHits, statementMisses);
+        }
+    }
+
+    /**
+     * The PooledConnection class holds a physical connection, its prepared statement cache and the times used to
+     * validate and recycle it
+     */
+    private class PooledConnection {
+
+        /**
+         * The physical connection to the database
+         */
+        private final Connection physical;
+
+        /**
+         * The time the physical connection was opened
+         */
+        private final long createdMillis = System.currentTimeMillis();
+
+        /**
+         * The time the connection was last returned to the pool
+         */
+        private long lastReturnedMillis = createdMillis;
+
+        /**
+         * The prepared statements cached on the physical connection
+         */
+        private final StatementCache statementCache;
+
+        /**
+         * The constructor for the PooledConnection class
+         *
+         * @param physical The physical connection to the database
+         */
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statementCache = new StatementCache(physical, statementCacheHits, statementCacheMisses);
+        }
+
+        /**
+         * The isExpired method returns a boolean specifying if the connection has reached its maximum lifetime
+         *
+         * @param now The current time in milliseconds
+         * @return Returns a boolean specifying if the connection should be recycled
+         */
+        private boolean isExpired(long now) {
+            return now - createdMillis > DB_POOL_MAX_LIFETIME_MILLIS;
+        }
+
+        /**
+         * The lease method wraps the physical connection in a proxy which returns it to the pool when closed
+         *
+         * @return Returns the connection handed to the borrower
+         */
+        private Connection lease() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                                       new Class<?>[]{Connection.class},
+                                                       new ConnectionLease(this));
+        }
+    }
+
+    /**
+     * The ConnectionLease class intercepts calls made by a borrower so that closing the connection returns it to the
+     * pool instead of closing the physical connection, and so that prepared statements come from the statement cache
+     */
+    private class ConnectionLease implements InvocationHandler {
+
+        /**
+         * The connection that was lent out
+         */
+        private final PooledConnection pooled;
+
+        /**
+         * Boolean specifying if the borrower has already returned the connection
+         */
+        private boolean returned;
+
+        /**
+         * The constructor for the ConnectionLease class
+         *
+         * @param pooled The connection that was lent out
+         */
+        private ConnectionLease(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        /**
+         * The invoke method forwards calls to the physical connection until the borrower closes it
+         *
+         * @param proxy  The proxy the call was made on
+         * @param method The method that was called
+         * @param args   The arguments of the call
+         * @return Returns the result of the call on the physical connection
+         * @throws Throwable Throws the exception thrown by the physical connection
+         */
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!returned) {
+                        returned = true;
+                        release(pooled);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return returned || pooled.physical.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Pooled" + pooled.physical;
+                }
+            }
+            if (returned) {
+                throw new SQLException("The connection has already been returned to the pool");
+            }
+            boolean cacheable = args != null && (args.length == 1 || args.length == 2 && args[1] instanceof Integer);
+            if (cacheable && method.getName()
+                                   .equals("prepareStatement")) {
+                int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+                return pooled.statementCache.prepare((Connection) proxy, (String) args[0], autoGeneratedKeys);
+            }
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException invocationTargetException) {
+                throw invocationTargetException.getCause();
+            }
+        }
+    }
+}
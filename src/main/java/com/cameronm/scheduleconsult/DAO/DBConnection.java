@@ -1,6 +1,8 @@
 package com.cameronm.scheduleconsult.DAO;
 
+import com.cameronm.scheduleconsult.services.QueryMetrics;
 import com.cameronm.scheduleconsult.services.QueryService;
+import com.cameronm.scheduleconsult.services.SlowQueryLog;
 import com.cameronm.scheduleconsult.settings.DatabaseConfig;
 import com.cameronm.scheduleconsult.settings.UserCredentialConfig;
 
@@ -8,8 +10,8 @@ import java.sql.*;
 import java.time.ZoneId;
 
 /**
- * The DBConnection class is responsible for managing the connection to a MySQL database using the JDBC API. The
- * configuration settings are located within the settings package.
+ * The DBConnection class is responsible for managing the pool of connections to a MySQL database using the JDBC API,
+ * or to an embedded database when one is selected. The configuration settings are located within the settings package.
  *
  * @author Cameron M
  * @since 02-19-2023
@@ -17,23 +19,32 @@ import java.time.ZoneId;
 public abstract class DBConnection implements UserCredentialConfig, DatabaseConfig {
 
     /**
-     * The full URL for accessing the database
+     * The database backend selected for this run of the program
      */
-    private static final String JDBC_URL = DB_PROTOCOL + DB_VENDOR + DB_LOCATION + DB_NAME + DB_TIMEZONE;
+    private static final DatabaseBackend BACKEND = DatabaseBackend.selected();
 
     /**
-     * The connection to the database
+     * The pool of connections to the database
      */
-    public static Connection connection;
+    private static ConnectionPool connectionPool;
 
     /**
-     * The openConnection method opens the connection to the database
+     * The openConnection method opens the connection pool and checks that the database can be reached. An embedded
+     * database is given its schema the first time it is opened.
      */
     public static void openConnection() {
         try {
-            Class.forName(DB_DRIVER);
-            connection = DriverManager.getConnection(JDBC_URL, DB_ADMIN_USER_NAME, DB_ADMIN_PASSWORD);
-            System.out.println("Database connected.");
+            Class.forName(BACKEND.getDriver());
+            connectionPool = new ConnectionPool(BACKEND.getJdbcUrl(),
+                                                DB_ADMIN_USER_NAME,
+                                                DB_ADMIN_PASSWORD,
+                                                BACKEND.getSessionInitQuery());
+            try (Connection connection = connectionPool.borrow()) {
+                if (BACKEND.isEmbedded()) {
+                    SchemaBootstrap.createSchema(connection);
+                }
+                System.out.println("Database connected.");
+            }
         } catch (SQLException sqlException) {
             sqlException.printStackTrace();
         } catch (ClassNotFoundException classNotFoundException) {
@@ -42,23 +53,67 @@ public abstract class DBConnection implements UserCredentialConfig, DatabaseConf
     }
 
     /**
-     * The getConnection method returns the connection to the database
+     * The getBackend method returns the database backend selected for this run of the program
      *
-     * @return returns the connection to the database
+     * @return Returns the database backend
      */
-    public static Connection getConnection() {
-        return connection;
+    public static DatabaseBackend getBackend() {
+        return BACKEND;
     }
 
     /**
-     * The closeConnection method closes the connection to the database
+     * The getConnection method borrows a connection from the connection pool. The connection must be closed by the
+     * caller, which returns it to the pool. While a Transaction runs on the calling thread, the connection of the
+     * transaction is returned instead.
+     *
+     * @return returns a connection to the database
+     * @throws SQLException Throws SQLException if no connection could be obtained
+     */
+    public static Connection getConnection() throws SQLException {
+        Connection transactionConnection = Transaction.currentConnection();
+        if (transactionConnection != null) {
+            return transactionConnection;
+        }
+        if (connectionPool == null) {
+            throw new SQLException("The database connection has not been opened");
+        }
+        return connectionPool.borrow();
+    }
+
+    /**
+     * The isConnected method returns a boolean specifying if a valid connection to the database can be obtained
+     *
+     * @return Returns a boolean specifying if the database is reachable
+     */
+    public static boolean isConnected() {
+        try (Connection connection = getConnection()) {
+            return connection.isValid(DB_POOL_VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException sqlException) {
+            return false;
+        }
+    }
+
+    /**
+     * The getPoolStatistics method returns a snapshot of the size and wait metrics of the connection pool
+     *
+     * @return Returns the statistics of the connection pool, or null if the pool has not been opened
+     */
+    public static ConnectionPool.PoolStatistics getPoolStatistics() {
+        return connectionPool == null ? null : connectionPool.getStatistics();
+    }
+
+    /**
+     * The closeConnection method closes the connection pool
      */
     public static void closeConnection() {
-        try {
-            connection.close();
+        if (connectionPool != null) {
+            System.out.println("Connection pool: " + connectionPool.getStatistics());
+            System.out.print("Query metrics: " + QueryMetrics.dump());
+            if (SlowQueryLog.close()) {
+                System.out.println("Slow queries written to " + SlowQueryLog.getLogPath());
+            }
+            connectionPool.close();
             System.out.println("Database disconnected.");
-        } catch (SQLException e) {
-            System.out.println("Error:" + e.getMessage());
         }
     }
 
@@ -68,19 +123,16 @@ public abstract class DBConnection implements UserCredentialConfig, DatabaseConf
      * @return Returns the timezone of the server
      */
     public static ZoneId getServerTimezone() {
+        if (BACKEND.isEmbedded()) {
+            return ZoneId.of("UTC");
+        }
         try {
-            ResultSet resultSet = QueryService.getResultsSet("SELECT @@SESSION.time_zone as time_zone;");
-            resultSet.next();
-            return ZoneId.of(resultSet.getString("time_zone"));
+            return QueryService.getResult("SELECT @@SESSION.time_zone as time_zone;", resultSet -> {
+                resultSet.next();
+                return ZoneId.of(resultSet.getString("time_zone"));
+            });
         } catch (Exception exception) {
             return ZoneId.of("UTC");
         }
     }
-
-    /**
-     * The setServerTimezone method sets the timezone to UTC
-     */
-    public static void setServerTimezone() {
-        QueryService.execute("SET @@SESSION.time_zone = '+00:00'");
-    }
 }
@@ -1,13 +1,16 @@
 package com.cameronm.scheduleconsult.DAO;
 
 /**
- * The DBQueries interface contains string variables of common sql commands used within the program
+ * The DBQueries interface contains string variables of common sql commands used within the program. Values are never
+ * formatted into the commands; each value is a ? placeholder bound by a QueryBuilder.
  *
  * @author Cameron M
  * @since 02-26-2023
  */
 public interface DBQueries {
     String SELECT_ALL = " SELECT * FROM %s ";
+    String SELECT_ONE = " SELECT 1 FROM %s ";
+    String SELECT_COLUMNS = " SELECT %s FROM %s ";
     String INSERT = " INSERT INTO %s (%s) ";
     String UPDATE = " UPDATE %s ";
     String DELETE = "DELETE FROM %s ";
@@ -16,9 +19,31 @@ public interface DBQueries {
     String AND = " AND ";
     String WHERE = " WHERE ";
     String JOIN = " JOIN %s ON %s = %s ";
-    String EQUALS_STRING = " %s = '%s' ";
-    String EQUALS_INTEGER = " %s = %d ";
-    String TIME_RANGE = " %s >= '%s' AND %s <= '%s' ";
-    String NOT_IN_TIME_RANGE = " %s < '%s' AND %s > '%s' ";
-    String NOT_EQUAL_INTEGER = " %s != %s ";
+    String EQUALS = " %s = ? ";
+    String NOT_EQUAL = " %s != ? ";
+    String COLUMNS_DIFFER = " %s <> %s ";
+    String IN = " %s IN (%s) ";
+    String AT_LEAST = " %s >= ? ";
+    String AT_MOST = " %s <= ? ";
+    String EARLIER_THAN = " %s < ? ";
+    String UPDATED_OR_STARTING_SINCE = " (%s >= ? OR %s >= ?) ";
+    String TIME_RANGE = " %s >= ? AND %s <= ? ";
+    String NOT_IN_TIME_RANGE = " %s < ? AND %s > ? ";
+    String ORDER_BY = " ORDER BY %s ";
+    String GROUP_BY = " GROUP BY %s ";
+    String ALIAS = " %s AS %s ";
+    String MIN = " MIN(%s) ";
+    String MAX = " MAX(%s) ";
+    String COUNT = " COUNT(%s) ";
+    String ANY_VALUE = " ANY_VALUE(%s) ";
+    String DATE = " CAST(%s AS DATE) ";
+    String YEAR = " YEAR(%s) ";
+    String MONTH = " MONTH(%s) ";
+    String MONTH_NAME = " MONTHNAME(%s) ";
+    String LIMIT = " LIMIT ? ";
+    String LIMIT_OFFSET = " LIMIT ? OFFSET ? ";
+    String FOR_UPDATE = " FOR UPDATE ";
+    String AFTER_KEY = " (%s > ? OR (%s = ? AND %s > ?)) ";
+    String BEFORE_KEY = " (%s < ? OR (%s = ? AND %s < ?)) ";
+    String STARTS_WITH = " %s LIKE ? ESCAPE '!' ";
 }
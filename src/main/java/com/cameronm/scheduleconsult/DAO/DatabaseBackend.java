@@ -0,0 +1,121 @@
+package com.cameronm.scheduleconsult.DAO;
+
+import com.cameronm.scheduleconsult.settings.DatabaseConfig;
+
+import java.util.Locale;
+
+/**
+ * The DatabaseBackend Enum class represents the databases the program can run against. The MySQL server holds the data
+ * of the organization, while the embedded backends run the same client_schedule schema in MySQL compatibility mode
+ * inside the program, for demonstrations, working offline and reproducible performance tests. The backend is selected
+ * with the scheduleconsult.db system property.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public enum DatabaseBackend {
+    MYSQL(DatabaseConfig.DB_DRIVER,
+          DatabaseConfig.DB_PROTOCOL + DatabaseConfig.DB_VENDOR + DatabaseConfig.DB_LOCATION + DatabaseConfig.DB_NAME +
+                  DatabaseConfig.DB_TIMEZONE + DatabaseConfig.DB_PROPERTIES,
+          DatabaseConfig.DB_SESSION_INIT_QUERY,
+          false),
+    EMBEDDED(DatabaseConfig.EMBEDDED_DB_DRIVER,
+             DatabaseConfig.DB_PROTOCOL + DatabaseConfig.EMBEDDED_DB_VENDOR + DatabaseConfig.EMBEDDED_DB_LOCATION +
+                     DatabaseConfig.DB_NAME + DatabaseConfig.EMBEDDED_DB_PROPERTIES,
+             DatabaseConfig.EMBEDDED_DB_SESSION_INIT_QUERY,
+             true),
+    MEMORY(DatabaseConfig.EMBEDDED_DB_DRIVER,
+           DatabaseConfig.DB_PROTOCOL + DatabaseConfig.EMBEDDED_DB_VENDOR + DatabaseConfig.EMBEDDED_DB_MEMORY_LOCATION +
+                   DatabaseConfig.DB_NAME + DatabaseConfig.EMBEDDED_DB_PROPERTIES,
+           DatabaseConfig.EMBEDDED_DB_SESSION_INIT_QUERY,
+           true);
+
+    /**
+     * The driver of the database
+     */
+    private final String driver;
+
+    /**
+     * The full URL for accessing the database
+     */
+    private final String jdbcUrl;
+
+    /**
+     * The statement executed on every new connection to the database
+     */
+    private final String sessionInitQuery;
+
+    /**
+     * Boolean specifying if the database runs inside the program
+     */
+    private final boolean embedded;
+
+    /**
+     * The DatabaseBackend constructor
+     *
+     * @param driver           The driver of the database
+     * @param jdbcUrl          The full URL for accessing the database
+     * @param sessionInitQuery The statement executed on every new connection to the database
+     * @param embedded         Boolean specifying if the database runs inside the program
+     */
+    DatabaseBackend(String driver, String jdbcUrl, String sessionInitQuery, boolean embedded) {
+        this.driver = driver;
+        this.jdbcUrl = jdbcUrl;
+        this.sessionInitQuery = sessionInitQuery;
+        this.embedded = embedded;
+    }
+
+    /**
+     * The selected method returns the backend named by the scheduleconsult.db system property, or MySQL if none or an
+     * unknown backend is named
+     *
+     * @return Returns the selected backend
+     */
+    public static DatabaseBackend selected() {
+        String name = System.getProperty(DatabaseConfig.DB_BACKEND_PROPERTY, MYSQL.name());
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException illegalArgumentException) {
+            System.out.println("Unknown database backend " + name + ", using " + MYSQL.name()
+                                                                                     .toLowerCase(Locale.ROOT));
+            return MYSQL;
+        }
+    }
+
+    /**
+     * The getDriver method returns the driver of the database
+     *
+     * @return Returns the class name of the driver
+     */
+    public String getDriver() {
+        return driver;
+    }
+
+    /**
+     * The getJdbcUrl method returns the full URL for accessing the database
+     *
+     * @return Returns the URL of the database
+     */
+    public String getJdbcUrl() {
+        return jdbcUrl;
+    }
+
+    /**
+     * The getSessionInitQuery method returns the statement executed on every new connection to the database
+     *
+     * @return Returns the statement
+     */
+    public String getSessionInitQuery() {
+        return sessionInitQuery;
+    }
+
+    /**
+     * The isEmbedded method returns a boolean specifying if the database runs inside the program, in which case its
+     * schema is created by the program and it always stores datetime values in UTC
+     *
+     * @return Returns a boolean specifying if the database is embedded
+     */
+    public boolean isEmbedded() {
+        return embedded;
+    }
+}
@@ -0,0 +1,420 @@
+package com.cameronm.scheduleconsult.DAO;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The QueryBuilder class builds a parameterized query from the DBQueries templates. Table and column names are
+ * formatted into the query while values are bound to ? placeholders, so every query with the same shape produces the
+ * same SQL and can be served from the statement cache of a pooled connection.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public class QueryBuilder implements DBQueries {
+
+    /**
+     * The parameterized SQL built so far
+     */
+    private final StringBuilder sqlQuery;
+
+    /**
+     * The values bound to the placeholders, in order
+     */
+    private final List<Object> parameters = new ArrayList<>();
+
+    /**
+     * The constructor for the QueryBuilder class
+     *
+     * @param sqlQuery   The start of the parameterized query
+     * @param parameters The values bound to any placeholders in the start of the query
+     */
+    public QueryBuilder(String sqlQuery, Object... parameters) {
+        this.sqlQuery = new StringBuilder(sqlQuery);
+        Collections.addAll(this.parameters, parameters);
+    }
+
+    /**
+     * The selectAll method starts a query selecting every column of a model's table
+     *
+     * @param dbModel The model whose table is queried
+     * @return Returns a new query builder
+     */
+    public static QueryBuilder selectAll(DBModels dbModel) {
+        return new QueryBuilder(String.format(SELECT_ALL, dbModel.getTableName()));
+    }
+
+    /**
+     * The selectOne method starts a query selecting a constant for each matching row of a model's table, for queries
+     * that only test whether a row exists
+     *
+     * @param dbModel The model whose table is queried
+     * @return Returns a new query builder
+     */
+    public static QueryBuilder selectOne(DBModels dbModel) {
+        return new QueryBuilder(String.format(SELECT_ONE, dbModel.getTableName()));
+    }
+
+    /**
+     * The select method starts a query selecting some of the columns of a model's table
+     *
+     * @param dbModel The model whose table is queried
+     * @param columns The columns selected
+     * @return Returns a new query builder
+     */
+    public static QueryBuilder select(DBModels dbModel, String... columns) {
+        return new QueryBuilder(String.format(SELECT_COLUMNS, String.join(", ", columns), dbModel.getTableName()));
+    }
+
+    /**
+     * The deleteFrom method starts a query deleting rows from a model's table
+     *
+     * @param dbModel The model whose table is deleted from
+     * @return Returns a new query builder
+     */
+    public static QueryBuilder deleteFrom(DBModels dbModel) {
+        return new QueryBuilder(String.format(DELETE, dbModel.getTableName()));
+    }
+
+    /**
+     * The where method appends the WHERE keyword
+     *
+     * @return Returns this query builder
+     */
+    public QueryBuilder where() {
+        sqlQuery.append(WHERE);
+        return this;
+    }
+
+    /**
+     * The and method appends the AND keyword
+     *
+     * @return Returns this query builder
+     */
+    public QueryBuilder and() {
+        sqlQuery.append(AND);
+        return this;
+    }
+
+    /**
+     * The equalTo method appends a condition matching a column to an integer value
+     *
+     * @param column The column compared
+     * @param value  The value the column must equal
+     * @return Returns this query builder
+     */
+    public QueryBuilder equalTo(String column, int value) {
+        return append(String.format(EQUALS, column), value);
+    }
+
+    /**
+     * The equalTo method appends a condition matching a column to a string value
+     *
+     * @param column The column compared
+     * @param value  The value the column must equal
+     * @return Returns this query builder
+     */
+    public QueryBuilder equalTo(String column, String value) {
+        return append(String.format(EQUALS, column), value);
+    }
+
+    /**
+     * The in method appends a condition matching a column to any of several integer values
+     *
+     * @param column The column compared
+     * @param values The values the column may equal, of which there must be at least one
+     * @return Returns this query builder
+     */
+    public QueryBuilder in(String column, Collection<Integer> values) {
+        return append(String.format(IN, column, String.join(", ", Collections.nCopies(values.size(), "?"))),
+                      values.toArray());
+    }
+
+    /**
+     * The notEqualTo method appends a condition excluding an integer value from a column
+     *
+     * @param column The column compared
+     * @param value  The value the column must not equal
+     * @return Returns this query builder
+     */
+    public QueryBuilder notEqualTo(String column, int value) {
+        return append(String.format(NOT_EQUAL, column), value);
+    }
+
+    /**
+     * The inRange method appends a condition matching a column to an inclusive range of timestamps
+     *
+     * @param column The column compared
+     * @param start  The start of the range
+     * @param end    The end of the range
+     * @return Returns this query builder
+     */
+    public QueryBuilder inRange(String column, Timestamp start, Timestamp end) {
+        return append(String.format(TIME_RANGE, column, column), start, end);
+    }
+
+    /**
+     * The atLeast method appends a condition matching a column to timestamps on or after a value
+     *
+     * @param column The column compared
+     * @param value  The earliest timestamp matched
+     * @return Returns this query builder
+     */
+    public QueryBuilder atLeast(String column, Timestamp value) {
+        return append(String.format(AT_LEAST, column), value);
+    }
+
+    /**
+     * The atMost method appends a condition matching a column to timestamps on or before a value
+     *
+     * @param column The column compared
+     * @param value  The latest timestamp matched
+     * @return Returns this query builder
+     */
+    public QueryBuilder atMost(String column, Timestamp value) {
+        return append(String.format(AT_MOST, column), value);
+    }
+
+    /**
+     * The columnsDiffer method appends a condition matching rows whose values of two columns differ
+     *
+     * @param column      The first column compared
+     * @param otherColumn The second column compared
+     * @return Returns this query builder
+     */
+    public QueryBuilder columnsDiffer(String column, String otherColumn) {
+        return append(String.format(COLUMNS_DIFFER, column, otherColumn));
+    }
+
+    /**
+     * The earlierThan method appends a condition matching a column to timestamps before a value, leaving the value
+     * itself out
+     *
+     * @param column The column compared
+     * @param value  The timestamp the matched values are before
+     * @return Returns this query builder
+     */
+    public QueryBuilder earlierThan(String column, Timestamp value) {
+        return append(String.format(EARLIER_THAN, column), value);
+    }
+
+    /**
+     * The updatedOrStartingSince method appends a condition matching rows last updated on or after one timestamp, or
+     * starting on or after another
+     *
+     * @param updateColumn  The column holding the last update of each row
+     * @param startColumn   The column holding the start of each row
+     * @param updatedSince  The earliest last update matched
+     * @param startingSince The earliest start matched
+     * @return Returns this query builder
+     */
+    public QueryBuilder updatedOrStartingSince(String updateColumn,
+                                               String startColumn,
+                                               Timestamp updatedSince,
+                                               Timestamp startingSince) {
+        return append(String.format(UPDATED_OR_STARTING_SINCE, updateColumn, startColumn), updatedSince, startingSince);
+    }
+
+    /**
+     * The overlaps method appends a condition matching rows whose start and end columns overlap a range of timestamps
+     *
+     * @param startColumn The column holding the start of each row
+     * @param endColumn   The column holding the end of each row
+     * @param start       The start of the range
+     * @param end         The end of the range
+     * @return Returns this query builder
+     */
+    public QueryBuilder overlaps(String startColumn, String endColumn, Timestamp start, Timestamp end) {
+        return append("(" + String.format(NOT_IN_TIME_RANGE, startColumn, endColumn) + ")", end, start);
+    }
+
+    /**
+     * The orderBy method appends an ORDER BY clause sorting the rows by one or more columns
+     *
+     * @param columns The columns the rows are sorted by, in order
+     * @return Returns this query builder
+     */
+    public QueryBuilder orderBy(String... columns) {
+        return append(String.format(ORDER_BY, String.join(", ", columns)));
+    }
+
+    /**
+     * The groupBy method appends a GROUP BY clause grouping the rows by one or more columns or expressions
+     *
+     * @param columns The columns or expressions the rows are grouped by, in order
+     * @return Returns this query builder
+     */
+    public QueryBuilder groupBy(String... columns) {
+        return append(String.format(GROUP_BY, String.join(", ", columns)));
+    }
+
+    /**
+     * The after method appends a keyset condition matching the rows sorted after a given row, by a sort column and
+     * then by the ID column to break ties
+     *
+     * @param sortColumn The column the rows are sorted by
+     * @param idColumn   The ID column breaking ties between rows with the same sort value
+     * @param sortValue  The sort value of the row the page starts after
+     * @param id         The ID of the row the page starts after
+     * @return Returns this query builder
+     */
+    public QueryBuilder after(String sortColumn, String idColumn, Object sortValue, int id) {
+        return append(String.format(AFTER_KEY, sortColumn, sortColumn, idColumn), sortValue, sortValue, id);
+    }
+
+    /**
+     * The before method appends a keyset condition matching the rows sorted before a given row, for pages sorted in
+     * descending order by a sort column and then by the ID column
+     *
+     * @param sortColumn The column the rows are sorted by
+     * @param idColumn   The ID column breaking ties between rows with the same sort value
+     * @param sortValue  The sort value of the row the page starts after
+     * @param id         The ID of the row the page starts after
+     * @return Returns this query builder
+     */
+    public QueryBuilder before(String sortColumn, String idColumn, Object sortValue, int id) {
+        return append(String.format(BEFORE_KEY, sortColumn, sortColumn, idColumn), sortValue, sortValue, id);
+    }
+
+    /**
+     * The startsWith method appends a condition matching rows where any of the columns starts with a prefix. Only
+     * the end of the pattern is a wildcard, so each column can be searched through its index, and any wildcard
+     * characters typed in the prefix are matched literally.
+     *
+     * @param prefix  The prefix searched for
+     * @param columns The columns searched
+     * @return Returns this query builder
+     */
+    public QueryBuilder startsWith(String prefix, String... columns) {
+        String pattern = prefix.replace("!", "!!")
+                               .replace("%", "!%")
+                               .replace("_", "!_") + "%";
+        List<String> conditions = new ArrayList<>();
+        for (String column : columns) {
+            conditions.add(String.format(STARTS_WITH, column));
+            parameters.add(pattern);
+        }
+        sqlQuery.append("(")
+                .append(String.join(" OR ", conditions))
+                .append(")");
+        return this;
+    }
+
+    /**
+     * The limit method appends a LIMIT clause returning at most a number of rows
+     *
+     * @param limit The maximum number of rows returned
+     * @return Returns this query builder
+     */
+    public QueryBuilder limit(int limit) {
+        return append(LIMIT, limit);
+    }
+
+    /**
+     * The limit method appends a LIMIT clause returning a single page of rows
+     *
+     * @param limit  The maximum number of rows returned
+     * @param offset The number of rows skipped before the page
+     * @return Returns this query builder
+     */
+    public QueryBuilder limit(int limit, int offset) {
+        return append(LIMIT_OFFSET, limit, offset);
+    }
+
+    /**
+     * The forUpdate method appends a FOR UPDATE clause, locking the matched rows until the end of the transaction
+     *
+     * @return Returns this query builder
+     */
+    public QueryBuilder forUpdate() {
+        return append(FOR_UPDATE);
+    }
+
+    /**
+     * The append method appends a fragment of SQL and the values bound to its placeholders
+     *
+     * @param fragment   The fragment of SQL
+     * @param parameters The values bound to the placeholders in the fragment
+     * @return Returns this query builder
+     */
+    public QueryBuilder append(String fragment, Object... parameters) {
+        sqlQuery.append(fragment);
+        Collections.addAll(this.parameters, parameters);
+        return this;
+    }
+
+    /**
+     * The getSql method returns the parameterized SQL of the query
+     *
+     * @return Returns the SQL of the query with ? placeholders
+     */
+    public String getSql() {
+        return sqlQuery.toString();
+    }
+
+    /**
+     * The getParameters method returns the values bound to the placeholders
+     *
+     * @return Returns the values of the query, in order
+     */
+    public List<Object> getParameters() {
+        return Collections.unmodifiableList(parameters);
+    }
+
+    /**
+     * The prepare method prepares the query on a connection and binds its values
+     *
+     * @param connection The connection the query is prepared on
+     * @return Returns the prepared statement, which must be closed by the caller
+     * @throws SQLException Throws SQLException if the statement could not be prepared
+     */
+    public PreparedStatement prepare(Connection connection) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(getSql());
+        try {
+            bind(statement);
+        } catch (SQLException sqlException) {
+            statement.close();
+            throw sqlException;
+        }
+        return statement;
+    }
+
+    /**
+     * The bind method binds the values of the query to a prepared statement. Timestamps are bound as LocalDateTime
+     * values so that the driver sends them as they are, matching the server timezone conversions done by the
+     * TimeConversionService.
+     *
+     * @param statement The statement the values are bound to
+     * @throws SQLException Throws SQLException if a value could not be bound
+     */
+    public void bind(PreparedStatement statement) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            Object parameter = parameters.get(i);
+            int index = i + 1;
+            if (parameter == null) {
+                statement.setNull(index, Types.NULL);
+            } else if (parameter instanceof Integer value) {
+                statement.setInt(index, value);
+            } else if (parameter instanceof String value) {
+                statement.setString(index, value);
+            } else if (parameter instanceof Timestamp value) {
+                statement.setObject(index, value.toLocalDateTime());
+            } else {
+                statement.setObject(index, parameter);
+            }
+        }
+    }
+
+    /**
+     * The toString method returns the SQL and values of the query
+     *
+     * @return Returns a description of the query
+     */
+    @Override
+    public String toString() {
+        return getSql() + " " + parameters;
+    }
+}
@@ -0,0 +1,70 @@
+package com.cameronm.scheduleconsult.DAO;
+
+import com.cameronm.scheduleconsult.settings.DatabaseConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The SchemaBootstrap class creates the client_schedule schema in an embedded database, along with the indexes the
+ * queries of the program filter and sort on, and fills a new database with the sample data of the organization
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public abstract class SchemaBootstrap implements DatabaseConfig, DBQueries {
+
+    /**
+     * The createSchema method creates the tables and indexes that do not exist yet, then adds the sample data if the
+     * database has no users
+     *
+     * @param connection The connection to the embedded database
+     * @throws SQLException Throws SQLException if a script could not be read or run
+     */
+    static void createSchema(Connection connection) throws SQLException {
+        runScript(connection, EMBEDDED_DB_SCHEMA_SCRIPT);
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        String.format(SELECT_ONE, DBModels.USERS.getTableName()) + " LIMIT 1")
+        ) {
+            if (resultSet.next()) {
+                return;
+            }
+        }
+        runScript(connection, EMBEDDED_DB_SAMPLE_DATA_SCRIPT);
+        System.out.println("Embedded database created with sample data.");
+    }
+
+    /**
+     * The runScript method runs every statement of a script, each of which ends with a semicolon at the end of a line
+     *
+     * @param connection The connection the script is run on
+     * @param script     The path of the script among the resources of the program
+     * @throws SQLException Throws SQLException if the script could not be read or run
+     */
+    private static void runScript(Connection connection, String script) throws SQLException {
+        String sql;
+        try (InputStream inputStream = SchemaBootstrap.class.getResourceAsStream(script)) {
+            if (inputStream == null) {
+                throw new SQLException("Script " + script + " not found");
+            }
+            sql = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException ioException) {
+            throw new SQLException("Script " + script + " could not be read", ioException);
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String query : sql.replaceAll("(?m)^\\s*--.*$", "")
+                                   .split(";\\s*(\\R|$)")) {
+                if (!query.isBlank()) {
+                    statement.execute(query);
+                }
+            }
+        }
+    }
+}
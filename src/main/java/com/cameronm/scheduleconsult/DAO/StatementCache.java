@@ -0,0 +1,253 @@
+package com.cameronm.scheduleconsult.DAO;
+
+import com.cameronm.scheduleconsult.settings.DatabaseConfig;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The StatementCache class keeps the most recently used prepared statements of a single pooled connection, keyed by
+ * their parameterized SQL, so that each query shape is only parsed and planned by the server once per connection.
+ * Closing a statement returned by the cache clears its parameters and keeps it open for the next borrower.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+class StatementCache implements DatabaseConfig {
+
+    /**
+     * The physical connection the statements are prepared on
+     */
+    private final Connection physical;
+
+    /**
+     * The number of statements served from the cache, shared by every connection in the pool
+     */
+    private final LongAdder hitCount;
+
+    /**
+     * The number of statements that had to be prepared, shared by every connection in the pool
+     */
+    private final LongAdder missCount;
+
+    /**
+     * The cached statements in least recently used order
+     */
+    private final Map<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+            if (size() > DB_STATEMENT_CACHE_SIZE) {
+                eldest.getValue()
+                      .evict();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * The constructor for the StatementCache class
+     *
+     * @param physical  The physical connection the statements are prepared on
+     * @param hitCount  The counter of statements served from the cache
+     * @param missCount The counter of statements that had to be prepared
+     */
+    StatementCache(Connection physical, LongAdder hitCount, LongAdder missCount) {
+        this.physical = physical;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+    }
+
+    /**
+     * The prepare method returns the cached statement for a query, preparing and caching it on first use. If the
+     * cached statement is already in use, an uncached statement is prepared instead.
+     *
+     * @param owner             The connection handed to the borrower, returned by the statement's getConnection
+     * @param sqlQuery          The parameterized query
+     * @param autoGeneratedKeys The flag specifying if generated keys are returned
+     * @return Returns a prepared statement for the query
+     * @throws SQLException Throws SQLException if the statement could not be prepared
+     */
+    PreparedStatement prepare(Connection owner, String sqlQuery, int autoGeneratedKeys) throws SQLException {
+        String key = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS ? sqlQuery + "\0keys" : sqlQuery;
+        CachedStatement cached = statements.get(key);
+        if (cached != null && cached.inUse) {
+            missCount.increment();
+            return physical.prepareStatement(sqlQuery, autoGeneratedKeys);
+        }
+        if (cached == null) {
+            missCount.increment();
+            cached = new CachedStatement(physical.prepareStatement(sqlQuery, autoGeneratedKeys));
+            statements.put(key, cached);
+        } else {
+            hitCount.increment();
+        }
+        cached.inUse = true;
+        return cached.lease(owner);
+    }
+
+    /**
+     * The CachedStatement class holds a physical prepared statement and whether it is currently lent out
+     */
+    private static class CachedStatement {
+
+        /**
+         * The physical prepared statement
+         */
+        private final PreparedStatement statement;
+
+        /**
+         * Boolean specifying if the statement is currently lent out
+         */
+        private boolean inUse;
+
+        /**
+         * Boolean specifying if the statement has been pushed out of the cache
+         */
+        private boolean evicted;
+
+        /**
+         * The constructor for the CachedStatement class
+         *
+         * @param statement The physical prepared statement
+         */
+        private CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        /**
+         * The evict method closes the statement once it has been pushed out of the cache and is no longer in use
+         */
+        private void evict() {
+            evicted = true;
+            if (!inUse) {
+                closeQuietly();
+            }
+        }
+
+        /**
+         * The giveBack method resets the statement once its borrower has closed it, discarding any parameters and any
+         * batch left behind by a borrower that failed before executing it
+         */
+        private void giveBack() {
+            inUse = false;
+            if (evicted) {
+                closeQuietly();
+                return;
+            }
+            try {
+                ResultSet openResults = statement.getResultSet();
+                if (openResults != null) {
+                    openResults.close();
+                }
+                statement.clearParameters();
+                statement.clearBatch();
+            } catch (SQLException sqlException) {
+                evicted = true;
+                closeQuietly();
+            }
+        }
+
+        /**
+         * The closeQuietly method closes the physical statement, ignoring any errors
+         */
+        private void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+            }
+        }
+
+        /**
+         * The lease method wraps the statement in a proxy which gives it back to the cache when closed
+         *
+         * @param owner The connection handed to the borrower
+         * @return Returns the statement handed to the borrower
+         */
+        private PreparedStatement lease(Connection owner) {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                                                              new Class<?>[]{PreparedStatement.class},
+                                                              new StatementLease(this, owner));
+        }
+    }
+
+    /**
+     * The StatementLease class intercepts calls made by a borrower so that closing a cached statement keeps it open
+     */
+    private static class StatementLease implements InvocationHandler {
+
+        /**
+         * The statement that was lent out
+         */
+        private final CachedStatement cached;
+
+        /**
+         * The connection handed to the borrower
+         */
+        private final Connection owner;
+
+        /**
+         * Boolean specifying if the borrower has already closed the statement
+         */
+        private boolean returned;
+
+        /**
+         * The constructor for the StatementLease class
+         *
+         * @param cached The statement that was lent out
+         * @param owner  The connection handed to the borrower
+         */
+        private StatementLease(CachedStatement cached, Connection owner) {
+            this.cached = cached;
+            this.owner = owner;
+        }
+
+        /**
+         * The invoke method forwards calls to the physical statement until the borrower closes it
+         *
+         * @param proxy  The proxy the call was made on
+         * @param method The method that was called
+         * @param args   The arguments of the call
+         * @return Returns the result of the call on the physical statement
+         * @throws Throwable Throws the exception thrown by the physical statement
+         */
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!returned) {
+                        returned = true;
+                        cached.giveBack();
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return returned;
+                }
+                case "getConnection" -> {
+                    return owner;
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+            }
+            if (returned) {
+                throw new SQLException("The statement has already been closed");
+            }
+            try {
+                return method.invoke(cached.statement, args);
+            } catch (InvocationTargetException invocationTargetException) {
+                throw invocationTargetException.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.cameronm.scheduleconsult.DAO;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * The Transaction class groups the database work of several service calls into a single transaction. While a unit of
+ * work runs, every connection obtained from DBConnection on the same thread is the one connection of the transaction,
+ * so the services need no changes to take part in it. The work is committed once when it finishes and rolled back if
+ * it throws, and a unit of work started inside another simply joins the outer transaction.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public abstract class Transaction {
+
+    /**
+     * The connection of the transaction running on each thread, wrapped so that the services cannot close, commit or
+     * roll it back
+     */
+    private static final ThreadLocal<Connection> CURRENT_CONNECTION = new ThreadLocal<>();
+
+    /**
+     * The run method runs a unit of work in a single transaction, committing it if the work finishes and rolling it
+     * back if the work throws anything, including an error, so that restoring auto-commit never commits a partial
+     * transaction
+     *
+     * @param work The unit of work
+     * @param <R>  The type of the result of the work
+     * @return Returns the result of the work
+     * @throws SQLException Throws SQLException if the work or the commit fails
+     */
+    public static <R> R run(Work<R> work) throws SQLException {
+        if (CURRENT_CONNECTION.get() != null) {
+            return work.run();
+        }
+        try (Connection connection = DBConnection.getConnection()) {
+            connection.setAutoCommit(false);
+            CURRENT_CONNECTION.set(enlist(connection));
+            try {
+                R result = work.run();
+                connection.commit();
+                return result;
+            } catch (Throwable throwable) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackException) {
+                    throwable.addSuppressed(rollbackException);
+                }
+                throw throwable;
+            } finally {
+                CURRENT_CONNECTION.remove();
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * The currentConnection method returns the connection of the transaction running on the current thread
+     *
+     * @return Returns the connection of the transaction, or null if no transaction is running on the thread
+     */
+    static Connection currentConnection() {
+        return CURRENT_CONNECTION.get();
+    }
+
+    /**
+     * The enlist method wraps the connection of a transaction in a proxy that ignores the calls closing it or ending
+     * the transaction, which are made by services written to run on their own connection
+     *
+     * @param connection The connection of the transaction
+     * @return Returns the connection handed to the services
+     */
+    private static Connection enlist(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                                   new Class<?>[]{Connection.class},
+                                                   (proxy, method, args) -> {
+                                                       switch (method.getName()) {
+                                                           case "close", "commit", "setAutoCommit" -> {
+                                                               return null;
+                                                           }
+                                                           case "rollback" -> {
+                                                               if (args == null) {
+                                                                   return null;
+                                                               }
+                                                           }
+                                                       }
+                                                       try {
+                                                           return method.invoke(connection, args);
+                                                       } catch (InvocationTargetException exception) {
+                                                           throw exception.getCause();
+                                                       }
+                                                   });
+    }
+
+    /**
+     * The Work interface is a unit of work run in a transaction
+     *
+     * @param <R> The type of the result of the work
+     */
+    @FunctionalInterface
+    public interface Work<R> {
+
+        /**
+         * The run method does the database work of the unit
+         *
+         * @return Returns the result of the work
+         * @throws SQLException Throws SQLException to roll back the transaction
+         */
+        R run() throws SQLException;
+    }
+}
@@ -2,7 +2,10 @@ package com.cameronm.scheduleconsult;
 
 import com.cameronm.scheduleconsult.DAO.DBConnection;
 import com.cameronm.scheduleconsult.controllers.LoginController;
+import com.cameronm.scheduleconsult.services.QueryMetrics;
 import com.cameronm.scheduleconsult.services.TimeConversionService;
+import com.cameronm.scheduleconsult.utilities.AsyncLoader;
+import com.cameronm.scheduleconsult.utilities.ReminderScheduler;
 import com.cameronm.scheduleconsult.utilities.ScreenLoader;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -84,10 +87,20 @@ public class Main extends Application {
     public static final LocalDate APPOINTMENT_EARLIEST_DATE = LocalDate.of(2000, 1, 1);
 
     /**
-     * The user is reminded any appointments within this number of minutes at log-in
+     * The user is reminded of each of their appointments this number of minutes before it starts
      */
     public static final int APPOINTMENT_REMINDER_MINUTES = 15;
 
+    /**
+     * The number of hours ahead of the present for which appointment reminders are kept scheduled
+     */
+    public static final int APPOINTMENT_REMINDER_WINDOW_HOURS = 24;
+
+    /**
+     * The number of seconds between checks of the database for new or changed appointments to be reminded of
+     */
+    public static final int APPOINTMENT_REMINDER_REFRESH_SECONDS = 60;
+
     /**
      * The title of the program
      */
@@ -109,8 +122,8 @@ public class Main extends Application {
      * @param args command line arguments passed to the application
      */
     public static void main(String[] args) {
+        QueryMetrics.register();
         DBConnection.openConnection();
-        DBConnection.setServerTimezone();
         serverZoneID = DBConnection.getServerTimezone();
         System.out.printf("The %s timezone is set to %s\n", "server", TimeConversionService.SERVER_ZONE_ID);
         System.out.printf("The %s timezone is %s\n", "local", TimeConversionService.LOCAL_ZONE_ID);
@@ -140,6 +153,8 @@ public class Main extends Application {
      * The safeExit method closes the database connection before exiting the program
      */
     public static void safeExit() {
+        ReminderScheduler.stop();
+        AsyncLoader.shutdown();
         DBConnection.closeConnection();
         System.exit(0);
     }
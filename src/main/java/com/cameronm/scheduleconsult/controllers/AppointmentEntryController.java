@@ -6,10 +6,12 @@ import com.cameronm.scheduleconsult.models.Appointment;
 import com.cameronm.scheduleconsult.models.Contact;
 import com.cameronm.scheduleconsult.services.*;
 
+import com.cameronm.scheduleconsult.utilities.AsyncLoader;
 import com.cameronm.scheduleconsult.utilities.InputValidator;
 import com.cameronm.scheduleconsult.utilities.UIHelper;
 import com.cameronm.scheduleconsult.views.AlertHandler;
 import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -24,6 +26,8 @@ import java.net.URL;
 import java.sql.Timestamp;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * The AppointmentEntryController class is the controller class for the appointment entry screen
@@ -38,6 +42,16 @@ public class AppointmentEntryController implements Initializable, TimeConversion
      */
     private Appointment appointment = null;
 
+    /**
+     * The future completed once the contacts have been loaded into their combo box
+     */
+    private CompletableFuture<ObservableList<Contact>> contactsLoaded;
+
+    /**
+     * The consumer receiving the appointment once it has been saved, or null
+     */
+    private Consumer<Appointment> onSaved;
+
     /**
      * The appointment ID TextField
      */
@@ -74,6 +88,12 @@ public class AppointmentEntryController implements Initializable, TimeConversion
     @FXML
     private ComboBox<LocalTime> endTimeComboBox;
 
+    /**
+     * The label warning that the customer has an existing appointment during the selected times
+     */
+    @FXML
+    private Label overlapWarningLabel;
+
     /**
      * The location TextField
      */
@@ -142,20 +162,44 @@ public class AppointmentEntryController implements Initializable, TimeConversion
     void saveButtonClicked() {
         if (InputValidator.checkInvalidEntriesError(validateAll())) {
             if (AlertHandler.confirmAction("Are you sure you want to save?", "")) {
-                saveAppointment();
-                Stage stage = (Stage) saveButton.getScene()
-                                                .getWindow();
-                stage.close();
-                AlertHandler.entityModified(DBModels.APPOINTMENTS, appointment, false);
+                boolean isNewAppointment = appointment == null;
+                Appointment enteredAppointment = enteredAppointment();
+                saveButton.setDisable(true);
+                AsyncLoader.load(() -> {
+                    Appointment saved = isNewAppointment ? AppointmentQueryService.addAppointment(enteredAppointment)
+                            : AppointmentQueryService.modifyAppointment(enteredAppointment);
+                    if (saved == null) {
+                        throw new IllegalStateException("No ID was generated for the appointment");
+                    }
+                    return saved;
+                }, savedAppointment -> {
+                    appointment = savedAppointment;
+                    Stage stage = (Stage) saveButton.getScene()
+                                                    .getWindow();
+                    stage.close();
+                    AlertHandler.entityModified(DBModels.APPOINTMENTS, appointment, false);
+                    if (onSaved != null) {
+                        onSaved.accept(appointment);
+                    }
+                }).exceptionally(error -> {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    AlertHandler.customErrorPopup("ERROR: Appointment not saved",
+                                                  "Unable to save this appointment.",
+                                                  cause.getMessage());
+                    return null;
+                }).whenComplete((savedAppointment, error) -> saveButton.setDisable(false));
             }
         }
     }
 
     /**
-     * The saveAppointment method saves the information provided in fields of the appointment entry screen creating a
-     * new appointment entity or updating an existing one
+     * The enteredAppointment method returns the appointment described by the fields of the appointment entry screen, in
+     * the local timezone. A modified appointment is returned as a new entity with the ID of the existing one, so the
+     * appointment shown in the table view is left unchanged until it has been saved.
+     *
+     * @return Returns the appointment to be saved
      */
-    private void saveAppointment() {
+    private Appointment enteredAppointment() {
         String title = titleTextField.getText();
         String description = descriptionTextField.getText();
         String location = locationTextField.getText();
@@ -167,44 +211,29 @@ public class AppointmentEntryController implements Initializable, TimeConversion
         LocalDate startDate = startDatePicker.getValue();
         LocalTime startTime = startTimeComboBox.getSelectionModel()
                                                .getSelectedItem();
-        Timestamp startTimestamp = TimeConversionService.convertToServerTime(Timestamp.valueOf(LocalDateTime.of(startDate, startTime)));
+        Timestamp startTimestamp = Timestamp.valueOf(LocalDateTime.of(startDate, startTime));
         LocalDate endDate = endDatePicker.getValue();
         LocalTime endTime = endTimeComboBox.getSelectionModel()
                                            .getSelectedItem();
-        Timestamp endTimestamp = TimeConversionService.convertToServerTime(Timestamp.valueOf(LocalDateTime.of(endDate, endTime)));
-        if (appointment == null) {
-            appointment = AppointmentQueryService.addAppointment(
-                    new Appointment(-1,
-                                    title,
-                                    null,
-                                    LoginController.getProgramUser()
-                                                   .getName(),
-                                    null,
-                                    LoginController.getProgramUser()
-                                                   .getName(),
-                                    description,
-                                    location,
-                                    type,
-                                    startTimestamp,
-                                    endTimestamp,
-                                    customerId,
-                                    userId,
-                                    contactId
-                    ));
-        } else {
-            appointment.setName(title);
-            appointment.setDescription(description);
-            appointment.setLocation(location);
-            appointment.setContactId(contactId);
-            appointment.setType(type);
-            appointment.setStart(startTimestamp);
-            appointment.setEnd(endTimestamp);
-            appointment.setCustomerId(customerId);
-            appointment.setUserId(userId);
-            appointment.setLastUpdatedBy(LoginController.getProgramUser()
-                                                        .getName());
-            AppointmentQueryService.modifyAppointment(appointment);
-        }
+        Timestamp endTimestamp = Timestamp.valueOf(LocalDateTime.of(endDate, endTime));
+        boolean isNewAppointment = appointment == null;
+        return new Appointment(isNewAppointment ? -1 : appointment.getId(),
+                               title,
+                               isNewAppointment ? null : appointment.getCreatedDate(),
+                               isNewAppointment ? LoginController.getProgramUser()
+                                                                 .getName() : appointment.getCreatedBy(),
+                               isNewAppointment ? null : appointment.getLastUpdated(),
+                               LoginController.getProgramUser()
+                                              .getName(),
+                               description,
+                               location,
+                               type,
+                               startTimestamp,
+                               endTimestamp,
+                               customerId,
+                               userId,
+                               contactId
+        );
     }
 
     /**
@@ -224,6 +253,51 @@ public class AppointmentEntryController implements Initializable, TimeConversion
         initDateTimePicker(endDatePicker, endTimeComboBox);
         UIHelper.initIdTextField(customerIdTextField);
         UIHelper.initIdTextField(userIdTextField);
+        initOverlapCheck();
+    }
+
+    /**
+     * The initOverlapCheck method checks for an overlapping appointment of the customer whenever the dates, times or
+     * customer ID change, so a conflict is shown while the times are being chosen instead of only when saving
+     */
+    private void initOverlapCheck() {
+        startDatePicker.valueProperty()
+                       .addListener((observable, oldValue, newValue) -> checkOverlap());
+        startTimeComboBox.valueProperty()
+                         .addListener((observable, oldValue, newValue) -> checkOverlap());
+        endDatePicker.valueProperty()
+                     .addListener((observable, oldValue, newValue) -> checkOverlap());
+        endTimeComboBox.valueProperty()
+                       .addListener((observable, oldValue, newValue) -> checkOverlap());
+        customerIdTextField.textProperty()
+                           .addListener((observable, oldValue, newValue) -> checkOverlap());
+    }
+
+    /**
+     * The checkOverlap method checks in the background if the customer has an appointment overlapping the selected
+     * times and shows the overlap warning label if so, discarding the result of any earlier check still in progress
+     */
+    private void checkOverlap() {
+        LocalDate startDate = startDatePicker.getValue();
+        LocalTime startTime = startTimeComboBox.getValue();
+        LocalDate endDate = endDatePicker.getValue();
+        LocalTime endTime = endTimeComboBox.getValue();
+        String customerId = customerIdTextField.getText();
+        if (startDate == null || startTime == null || endDate == null || endTime == null ||
+                !InputValidator.isValidEntityId(customerId)) {
+            AsyncLoader.cancel("appointmentOverlap");
+            overlapWarningLabel.setVisible(false);
+            return;
+        }
+        Timestamp start = Timestamp.valueOf(LocalDateTime.of(startDate, startTime));
+        Timestamp end = Timestamp.valueOf(LocalDateTime.of(endDate, endTime));
+        int excludedAppointmentId = appointment == null ? -1 : appointment.getId();
+        AsyncLoader.load("appointmentOverlap",
+                         () -> AppointmentOverlapIndex.hasOverlap(Integer.parseInt(customerId.trim()),
+                                                                  start,
+                                                                  end,
+                                                                  excludedAppointmentId),
+                         overlapWarningLabel::setVisible);
     }
 
     /**
@@ -235,13 +309,12 @@ public class AppointmentEntryController implements Initializable, TimeConversion
         titleTextField.setText(appointment.getName());
         descriptionTextField.setText(appointment.getDescription());
         locationTextField.setText(appointment.getLocation());
-        contactComboBox.getSelectionModel()
-                       .select(ContactQueryService.getContacts(String.format(SELECT_ALL + WHERE + EQUALS_INTEGER,
-                                                                             DBModels.CONTACTS.getTableName(),
-                                                                             DBModels.CONTACTS.getAttributes()
-                                                                                              .get("id"),
-                                                                             appointment.getContactId()))
-                                                  .get(0));
+        int contactId = appointment.getContactId();
+        contactsLoaded.thenAccept(contacts -> contacts.stream()
+                                                      .filter(contact -> contact.getId() == contactId)
+                                                      .findFirst()
+                                                      .ifPresent(contact -> contactComboBox.getSelectionModel()
+                                                                                           .select(contact)));
         typeTextField.setText(appointment.getType());
         startDatePicker.setValue(appointment.getStart()
                                             .toLocalDateTime()
@@ -264,11 +337,11 @@ public class AppointmentEntryController implements Initializable, TimeConversion
     }
 
     /**
-     * The setContactComboBox method populates the combo box with contacts the sets the combo box to display the name of
-     * the contacts
+     * The setContactComboBox method populates the combo box with contacts loaded in the background the sets the combo
+     * box to display the name of the contacts
      */
     private void setContactComboBox() {
-        contactComboBox.setItems(ContactQueryService.getAllContacts());
+        contactsLoaded = AsyncLoader.load(ContactQueryService::getAllContacts, contactComboBox::setItems);
         contactComboBox.setCellFactory(new Callback<>() {
             @Override
             public ListCell<Contact> call(ListView<Contact> param) {
@@ -485,6 +558,16 @@ public class AppointmentEntryController implements Initializable, TimeConversion
      */
     public void setAppointment(Appointment appointment) {
         this.appointment = appointment;
+        checkOverlap();
+    }
+
+    /**
+     * The setOnSaved method sets the consumer receiving the appointment once it has been saved
+     *
+     * @param onSaved The consumer receiving the saved appointment
+     */
+    public void setOnSaved(Consumer<Appointment> onSaved) {
+        this.onSaved = onSaved;
     }
 
     /**
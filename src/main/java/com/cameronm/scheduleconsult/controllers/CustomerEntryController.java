@@ -4,6 +4,7 @@ import com.cameronm.scheduleconsult.DAO.DBModels;
 import com.cameronm.scheduleconsult.DAO.DBQueries;
 import com.cameronm.scheduleconsult.models.*;
 import com.cameronm.scheduleconsult.services.*;
+import com.cameronm.scheduleconsult.utilities.AsyncLoader;
 import com.cameronm.scheduleconsult.utilities.InputValidator;
 import com.cameronm.scheduleconsult.utilities.UIHelper;
 import com.cameronm.scheduleconsult.views.AlertHandler;
@@ -18,6 +19,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * The CustomerEntryController class is the controller class for the customer entry screen
@@ -32,6 +35,16 @@ public class CustomerEntryController implements Initializable, DBQueries {
      */
     private Customer customer;
 
+    /**
+     * The future completed once the countries and divisions have been loaded into their combo boxes
+     */
+    private CompletableFuture<Void> referenceDataLoaded;
+
+    /**
+     * The consumer receiving the customer once it has been saved, or null
+     */
+    private Consumer<Customer> onSaved;
+
     /**
      * The address TextField
      */
@@ -106,50 +119,63 @@ public class CustomerEntryController implements Initializable, DBQueries {
     void saveButtonClicked() {
         if (InputValidator.checkInvalidEntriesError(validateAll())) {
             if (AlertHandler.confirmAction("Are you sure you want to save?", "")) {
-                saveCustomer();
-                Stage stage = (Stage) saveButton.getScene()
-                                                .getWindow();
-                stage.close();
-                AlertHandler.entityModified(DBModels.CUSTOMERS, customer, false);
+                boolean isNewCustomer = customer == null;
+                Customer enteredCustomer = enteredCustomer();
+                saveButton.setDisable(true);
+                AsyncLoader.load(() -> {
+                    Customer saved = isNewCustomer ? CustomerQueryService.addCustomer(enteredCustomer)
+                            : CustomerQueryService.modifyCustomer(enteredCustomer);
+                    if (saved == null) {
+                        throw new IllegalStateException("No ID was generated for the customer");
+                    }
+                    return saved;
+                }, savedCustomer -> {
+                    customer = savedCustomer;
+                    Stage stage = (Stage) saveButton.getScene()
+                                                    .getWindow();
+                    stage.close();
+                    AlertHandler.entityModified(DBModels.CUSTOMERS, customer, false);
+                    if (onSaved != null) {
+                        onSaved.accept(customer);
+                    }
+                }).exceptionally(error -> {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    AlertHandler.customErrorPopup("ERROR: Customer not saved",
+                                                  "Unable to save this customer.",
+                                                  cause.getMessage());
+                    return null;
+                }).whenComplete((savedCustomer, error) -> saveButton.setDisable(false));
             }
         }
     }
 
     /**
-     * The saveCustomer method saves the information provided in fields of the customer entry screen creating a new
-     * customer entity or updating an existing one
+     * The enteredCustomer method returns the customer described by the fields of the customer entry screen. A modified
+     * customer is returned as a new entity with the ID of the existing one, so the customer shown in the table view is
+     * left unchanged until it has been saved.
+     *
+     * @return Returns the customer to be saved
      */
-    private void saveCustomer() {
+    private Customer enteredCustomer() {
         String name = nameTextField.getText();
         String address = addressTextField.getText();
         String postalCode = postalCodeTextField.getText();
         FirstLevelDivision division = divisionComboBox.getValue();
         String phoneNumber = phoneTextField.getText();
-        if (customer == null) {
-            customer = CustomerQueryService.addCustomer(
-                    new Customer(-1,
-                                 name,
-                                 null,
-                                 LoginController.getProgramUser()
-                                                .getName(),
-                                 null,
-                                 LoginController.getProgramUser()
-                                                .getName(),
-                                 address,
-                                 postalCode,
-                                 phoneNumber,
-                                 division.getId()
-                    ));
-        } else {
-            customer.setName(name);
-            customer.setAddress(address);
-            customer.setPostalCode(postalCode);
-            customer.setDivisionId(division.getId());
-            customer.setPhone(phoneNumber);
-            customer.setLastUpdatedBy(LoginController.getProgramUser()
-                                                     .getName());
-            CustomerQueryService.modifyCustomer(customer);
-        }
+        boolean isNewCustomer = customer == null;
+        return new Customer(isNewCustomer ? -1 : customer.getId(),
+                            name,
+                            isNewCustomer ? null : customer.getCreatedDate(),
+                            isNewCustomer ? LoginController.getProgramUser()
+                                                           .getName() : customer.getCreatedBy(),
+                            isNewCustomer ? null : customer.getLastUpdated(),
+                            LoginController.getProgramUser()
+                                           .getName(),
+                            address,
+                            postalCode,
+                            phoneNumber,
+                            division.getId()
+        );
     }
 
     /**
@@ -161,21 +187,23 @@ public class CustomerEntryController implements Initializable, DBQueries {
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
         countryComboBox.setOnAction(actionEvent -> {
-            refreshDivisions();
-            divisionComboBox.getSelectionModel()
-                            .selectFirst();
+            Country country = countryComboBox.getValue();
+            FirstLevelDivision division = divisionComboBox.getValue();
+            if (country == null || division == null || division.getCountryId() != country.getId()) {
+                refreshDivisions();
+            }
         });
         divisionComboBox.setOnAction(actionEvent -> {
             if (countryComboBox.getValue() == null && divisionComboBox.getValue() != null) {
-                countryComboBox
-                        .getSelectionModel()
-                        .select(CountryQueryService
-                                        .getCountryById(divisionComboBox.getValue()
-                                                                        .getCountryId()));
+                selectCountry(divisionComboBox.getValue()
+                                              .getCountryId());
             }
         });
-        UIHelper.setEntityComboBox(CountryQueryService.getAllCountries(), countryComboBox);
-        UIHelper.setEntityComboBox(FirstLevelDivisionQueryService.getAllDivisions(), divisionComboBox);
+        referenceDataLoaded = CompletableFuture.allOf(
+                AsyncLoader.load(CountryQueryService::getAllCountries,
+                                 countries -> UIHelper.setEntityComboBox(countries, countryComboBox)),
+                AsyncLoader.load(FirstLevelDivisionQueryService::getAllDivisions,
+                                 divisions -> UIHelper.setEntityComboBox(divisions, divisionComboBox)));
         UIHelper.initIdTextField(customerIdTextField);
         UIHelper.initStringTextField(nameTextField, 50);
         UIHelper.initStringTextField(addressTextField, 100);
@@ -185,37 +213,53 @@ public class CustomerEntryController implements Initializable, DBQueries {
 
     /**
      * The initCustomerFields method populates the fields of customer entry screen for modifications to an existing
-     * customer
+     * customer. The customer's division and country are selected once the combo boxes have been loaded.
      */
     void initCustomerFields() {
         customerIdTextField.setText(String.valueOf(customer.getId()));
         nameTextField.setText(customer.getName());
         addressTextField.setText(customer.getAddress());
         postalCodeTextField.setText(customer.getPostalCode());
-        FirstLevelDivision customerDivision = FirstLevelDivisionQueryService
-                .getDivisionById(customer.getDivisionId());
-        Country customerCountry = CountryQueryService
-                .getCountryById(customerDivision.getCountryId());
-        countryComboBox.getSelectionModel()
-                       .select(customerCountry);
-        UIHelper.setEntityComboBox(filterDivisions(customerDivision.getCountryId()), divisionComboBox);
-        divisionComboBox.getSelectionModel()
-                        .select(customerDivision);
         phoneTextField.setText(customer.getPhone());
+        int divisionId = customer.getDivisionId();
+        referenceDataLoaded.thenRun(() -> AsyncLoader.load("customerDivisions", () -> {
+            FirstLevelDivision customerDivision = FirstLevelDivisionQueryService.getDivisionById(divisionId);
+            return new CustomerLocation(customerDivision, filterDivisions(customerDivision.getCountryId()));
+        }, location -> {
+            UIHelper.setEntityComboBox(location.divisions(), divisionComboBox);
+            divisionComboBox.getSelectionModel()
+                            .select(location.division());
+            selectCountry(location.division()
+                                  .getCountryId());
+        }));
+    }
+
+    /**
+     * The selectCountry method selects a country in the countries ComboBox from the countries already loaded
+     *
+     * @param countryId The ID of the country
+     */
+    private void selectCountry(int countryId) {
+        countryComboBox.getItems()
+                       .stream()
+                       .filter(country -> country.getId() == countryId)
+                       .findFirst()
+                       .ifPresent(country -> countryComboBox.getSelectionModel()
+                                                            .select(country));
     }
 
     /**
-     * The refreshDivisions method refreshes the divisions ComboBox to match the corresponding country
+     * The refreshDivisions method refreshes the divisions ComboBox in the background to match the corresponding
+     * country, selecting the first division once loaded
      */
     private void refreshDivisions() {
-        divisionComboBox.getItems()
-                        .clear();
-        if (countryComboBox.getValue() != null) {
-            divisionComboBox.setItems(filterDivisions(countryComboBox.getValue()
-                                                                     .getId()));
-        } else {
-            divisionComboBox.setItems(filterDivisions(null));
-        }
+        Integer countryId = countryComboBox.getValue() != null ? countryComboBox.getValue()
+                                                                                .getId() : null;
+        AsyncLoader.load("customerDivisions", () -> filterDivisions(countryId), divisions -> {
+            divisionComboBox.setItems(divisions);
+            divisionComboBox.getSelectionModel()
+                            .selectFirst();
+        });
     }
 
     /**
@@ -232,6 +276,15 @@ public class CustomerEntryController implements Initializable, DBQueries {
         return FirstLevelDivisionQueryService.getAllDivisions();
     }
 
+    /**
+     * The setOnSaved method sets the consumer receiving the customer once it has been saved
+     *
+     * @param onSaved The consumer receiving the saved customer
+     */
+    public void setOnSaved(Consumer<Customer> onSaved) {
+        this.onSaved = onSaved;
+    }
+
     /**
      * The setCustomer method sets the customer
      *
@@ -292,5 +345,13 @@ public class CustomerEntryController implements Initializable, DBQueries {
         }
         return exceptions;
     }
-}
 
+    /**
+     * The CustomerLocation record holds the division of a customer and the divisions of its country
+     *
+     * @param division  The division of the customer
+     * @param divisions The divisions in the same country as the customer
+     */
+    private record CustomerLocation(FirstLevelDivision division, ObservableList<FirstLevelDivision> divisions) {
+    }
+}
@@ -2,6 +2,7 @@ package com.cameronm.scheduleconsult.controllers;
 
 import com.cameronm.scheduleconsult.DAO.DBModels;
 import com.cameronm.scheduleconsult.DAO.DBQueries;
+import com.cameronm.scheduleconsult.DAO.QueryBuilder;
 import com.cameronm.scheduleconsult.Main;
 import com.cameronm.scheduleconsult.models.User;
 import com.cameronm.scheduleconsult.utilities.CredentialLogger;
@@ -121,10 +122,12 @@ public class LoginController implements Initializable, DBQueries {
         DBModels userModel = DBModels.USERS;
         String dbUsernameColumn = userModel.getAttributes().get("name");
         String dbPasswordColumn = userModel.getAttributes().get("password");
-        String whereQuery = String.format(WHERE + EQUALS_STRING + AND + EQUALS_STRING,
-                dbUsernameColumn, username, dbPasswordColumn, password);
-        String sqlQuery = SELECT_ALL + whereQuery;
-        ObservableList<User> matchingUsers = UserQueryService.getUsers(sqlQuery);
+        QueryBuilder query = QueryBuilder.selectAll(userModel)
+                .where()
+                .equalTo(dbUsernameColumn, username)
+                .and()
+                .equalTo(dbPasswordColumn, password);
+        ObservableList<User> matchingUsers = UserQueryService.getUsers(query);
         if (!matchingUsers.isEmpty()) {
             CredentialLogger.log(username, true);
             setProgramUser(matchingUsers.get(0));
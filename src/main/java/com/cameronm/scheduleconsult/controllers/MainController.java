@@ -7,9 +7,13 @@ import com.cameronm.scheduleconsult.Main;
 import com.cameronm.scheduleconsult.models.Appointment;
 import com.cameronm.scheduleconsult.models.Customer;
 import com.cameronm.scheduleconsult.services.*;
+import com.cameronm.scheduleconsult.utilities.AsyncLoader;
+import com.cameronm.scheduleconsult.utilities.PagedTableLoader;
+import com.cameronm.scheduleconsult.utilities.ReminderScheduler;
 import com.cameronm.scheduleconsult.utilities.ScreenLoader;
 import com.cameronm.scheduleconsult.utilities.UIHelper;
 import com.cameronm.scheduleconsult.views.AlertHandler;
+import javafx.animation.PauseTransition;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,17 +22,21 @@ import javafx.fxml.Initializable;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.paint.Color;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
-import java.sql.SQLException;
+import java.nio.file.Path;
 import java.sql.Timestamp;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.TemporalAdjusters;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 /**
@@ -51,6 +59,18 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
     @FXML
     private MenuItem reportsMenuItem;
 
+    /**
+     * The import appointments menu item
+     */
+    @FXML
+    private MenuItem importAppointmentsMenuItem;
+
+    /**
+     * The import customers menu item
+     */
+    @FXML
+    private MenuItem importCustomersMenuItem;
+
     /**
      * The quit menu item
      */
@@ -63,6 +83,12 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
     @FXML
     private MenuItem logOutMenuItem;
 
+    /**
+     * The query metrics menu item
+     */
+    @FXML
+    private MenuItem queryMetricsMenuItem;
+
     /**
      * The about menu item
      */
@@ -243,6 +269,12 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
     @FXML
     private TableColumn<Customer, String> phoneCustomerTableColumn;
 
+    /**
+     * The text field searching customers by the start of their name, phone number or postal code
+     */
+    @FXML
+    private TextField customerSearchTextField;
+
     /**
      * The button for adding a new customer
      */
@@ -273,6 +305,41 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
     @FXML
     private Label serverConnectionStatusLabel;
 
+    /**
+     * The number of appointments loaded per page when all appointments are shown
+     */
+    private static final int APPOINTMENT_PAGE_SIZE = 100;
+
+    /**
+     * The loader filling the appointment table view page by page when all appointments are shown
+     */
+    private PagedTableLoader<Appointment> appointmentPageLoader;
+
+    /**
+     * The number of customers loaded per page
+     */
+    private static final int CUSTOMER_PAGE_SIZE = 100;
+
+    /**
+     * The loader filling the customer table view page by page
+     */
+    private PagedTableLoader<Customer> customerPageLoader;
+
+    /**
+     * The customer attribute sorted by each sortable column of the customer table view
+     */
+    private final Map<TableColumn<Customer, ?>, String> customerSortAttributes = new HashMap<>();
+
+    /**
+     * The sort of the customers currently loaded, or null if the customers have not been loaded yet
+     */
+    private CustomerSort loadedCustomerSort;
+
+    /**
+     * The delay after the last keystroke in the customer search before the customers are searched
+     */
+    private final PauseTransition customerSearchDelay = new PauseTransition(Duration.millis(250));
+
     /**
      * The initialize method initializes main screen
      *
@@ -282,16 +349,18 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
         setLabels();
-        setAppointmentTable(filterAppointments());
+        appointmentPageLoader = new PagedTableLoader<>(appointmentTableView, "appointmentPages", APPOINTMENT_PAGE_SIZE);
+        initCustomerTable();
+        refreshAppointmentTable();
         mainTabPane.getSelectionModel()
                    .selectedItemProperty()
                    .addListener((observable, oldTab, newTab) -> {
                        if (newTab.getText()
                                  .equals("Appointments")) {
-                           setAppointmentTable(filterAppointments());
+                           refreshAppointmentTable();
                        } else if (newTab.getText()
                                         .equals("Customers")) {
-                           setCustomerTable(CustomerQueryService.getAllCustomers());
+                           refreshCustomerTable();
                        }
                    });
         createNewAppointmentButton.setOnAction(actionEvent -> loadAppointmentScreen(false));
@@ -303,64 +372,114 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
                                             setAppointmentFilterComboBoxVisibility();
                                             appointmentFilterIntervalComboBox.getItems()
                                                                              .clear();
-                                            setAppointmentTable(filterAppointments());
+                                            refreshAppointmentTable();
                                         }
                                     });
         appointmentFilterYearComboBox.setOnAction(actionEvent -> {
             appointmentFilterIntervalComboBox.getItems()
                                              .clear();
-            setAppointmentTable(filterAppointments());
+            refreshAppointmentTable();
         });
-        appointmentFilterIntervalComboBox.setOnAction(actionEvent -> setAppointmentTable(filterAppointments()));
+        appointmentFilterIntervalComboBox.setOnAction(actionEvent -> refreshAppointmentTable());
         reportsMenuItem.setOnAction(actionEvent -> loadReportsScreen());
+        importAppointmentsMenuItem.setOnAction(actionEvent -> importFile(
+                "Import Appointments",
+                DBModels.APPOINTMENTS,
+                file -> AppointmentImportService.importAppointments(file, LoginController.getProgramUser()
+                                                                                         .getName()),
+                this::refreshAppointmentTable));
+        importCustomersMenuItem.setOnAction(actionEvent -> importFile(
+                "Import Customers",
+                DBModels.CUSTOMERS,
+                file -> CustomerImportService.importCustomers(file, LoginController.getProgramUser()
+                                                                                   .getName()),
+                this::refreshCustomerTable));
         logOutMenuItem.setOnAction(actionEvent -> logOut());
         quitMenuItem.setOnAction(actionEvent -> UIHelper.closeProgram());
+        queryMetricsMenuItem.setOnAction(actionEvent -> AlertHandler.popupExpandablePrompt(
+                Alert.AlertType.INFORMATION,
+                "Query Metrics",
+                String.format("%d queries run, %d failed", QueryMetrics.getQueryCount(), QueryMetrics.getErrorCount()),
+                QueryMetrics.dump()));
         aboutMenuItem.setOnAction(actionEvent -> AlertHandler.aboutPopup());
         addCustomerButton.setOnAction(actionEvent -> loadCustomerScreen(false));
         modifyCustomerButton.setOnAction(actionEvent -> loadCustomerScreen(true));
         deleteCustomerButton.setOnAction(actionEvent -> deleteCustomer());
         UIHelper.addDoubleClickHandler(appointmentTableView, () -> loadAppointmentScreen(true));
         UIHelper.addDoubleClickHandler(customerTableView, () -> loadCustomerScreen(true));
-        appointmentReminder();
+        ReminderScheduler.start(LoginController.getProgramUser()
+                                               .getId(), this::appointmentReminder);
     }
 
     /**
      * The setLabels method sets labels on the main screen
      */
     private void setLabels() {
-        boolean isConnected = false;
+        boolean isConnected = DBConnection.isConnected();
         String username = LoginController.getProgramUser()
                                          .getName();
-        try {
-            isConnected = !DBConnection.getConnection()
-                                       .isClosed();
-        } catch (SQLException sqlException) {
-            sqlException.printStackTrace();
-        }
         serverConnectionStatusLabel.setText("DATABASE: " + (isConnected ? "connected" : "disconnected"));
         serverConnectionStatusLabel.setTextFill(Color.valueOf(isConnected ? "#3cdd33" : "#f61a1a"));
         loggedInUserLabel.setText("USER: " + username);
         loggedInUserLabel.setTextFill(Color.valueOf("#3cdd33"));
     }
 
+    /**
+     * The refreshAppointmentTable method loads the appointments matching the selected filters in the background and
+     * displays them once loaded, discarding the result of any earlier refresh still in progress. When all appointments
+     * are shown, they are loaded page by page as the table view is scrolled.
+     */
+    private void refreshAppointmentTable() {
+        boolean showAllSelected = appointmentFilterShowAllRadioButton.isSelected();
+        boolean weekSelected = appointmentFilterWeekRadioButton.isSelected();
+        boolean monthSelected = appointmentFilterMonthRadioButton.isSelected();
+        Year year = showAllSelected ? null : appointmentFilterYearComboBox.getValue();
+        LocalDate interval = appointmentFilterIntervalComboBox.getValue();
+        if (year == null) {
+            AsyncLoader.load("appointmentTable", ContactQueryService::getContactNamesById, contactNames -> {
+                setAppointmentColumns(contactNames);
+                appointmentPageLoader.load(AppointmentQueryService::getAppointmentsAfter,
+                                           AppointmentQueryService.getPageOrder());
+            });
+            return;
+        }
+        if (weekSelected) {
+            populateWeeksComboBox();
+        } else if (monthSelected) {
+            populateMonthsComboBox();
+        }
+        AsyncLoader.load("appointmentTable",
+                         () -> new AppointmentTableRows(
+                                 UIHelper.filterIntervals(year, interval, weekSelected, monthSelected),
+                                 ContactQueryService.getContactNamesById()),
+                         rows -> setAppointmentTable(rows.appointments(), rows.contactNames()));
+    }
+
     /**
      * The setAppointmentTable sets the appointment table view a list of appointments
      *
      * @param appointmentList The list of appointments displayed in the table view
+     * @param contactNames    The names of the contacts of the appointments by their ID
      */
-    private void setAppointmentTable(ObservableList<Appointment> appointmentList) {
+    private void setAppointmentTable(ObservableList<Appointment> appointmentList, Map<Integer, String> contactNames) {
+        appointmentPageLoader.stop();
+        setAppointmentColumns(contactNames);
+        UIHelper.refreshEntityTable(appointmentList, appointmentTableView);
+    }
+
+    /**
+     * The setAppointmentColumns method sets how the columns of the appointment table view display an appointment
+     *
+     * @param contactNames The names of the contacts of the appointments by their ID
+     */
+    private void setAppointmentColumns(Map<Integer, String> contactNames) {
         idAppointmentTableColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
         titleAppointmentTableColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
         descriptionAppointmentTableColumn.setCellValueFactory(new PropertyValueFactory<>("description"));
         locationAppointmentTableColumn.setCellValueFactory(new PropertyValueFactory<>("location"));
-        contactAppointmentTableColumn.setCellValueFactory(column -> {
-            int contactId = column.getValue()
-                                  .getContactId();
-            String requestedColumn = DBModels.CONTACTS.getAttributes()
-                                                      .get("name");
-            String contactName = ContactQueryService.getMatchFromDatabase(contactId, requestedColumn);
-            return new SimpleStringProperty(contactName);
-        });
+        contactAppointmentTableColumn.setCellValueFactory(column -> new SimpleStringProperty(
+                contactNames.get(column.getValue()
+                                       .getContactId())));
         typeAppointmentTableColumn.setCellValueFactory(new PropertyValueFactory<>("type"));
         startAppointmentTableColumn.setCellValueFactory(column -> TimeConversionService
                 .cellDateTimeDisplay(column.getValue()
@@ -372,7 +491,6 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
                                      MONTH_DATE_HOURS_TIMEZONE_FORMAT));
         customerIdAppointmentTableColumn.setCellValueFactory(new PropertyValueFactory<>("customerId"));
         userIdAppointmentTableColumn.setCellValueFactory(new PropertyValueFactory<>("userId"));
-        UIHelper.refreshEntityTable(appointmentList, appointmentTableView);
     }
 
     /**
@@ -410,8 +528,9 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
         boolean showWeekFilterSelected = appointmentFilterWeekRadioButton.isSelected();
         boolean showMonthFilterSelected = appointmentFilterMonthRadioButton.isSelected();
         if (showAllAppointmentNotSelected) {
-            HashMap<String, Timestamp> range = AppointmentQueryService.getMinMaxAppointmentRange();
-            populateAppointmentFilterYearComboBox(range.get("start"), range.get("end"));
+            AsyncLoader.load("appointmentYears",
+                             AppointmentQueryService::getMinMaxAppointmentRange,
+                             range -> populateAppointmentFilterYearComboBox(range.get("start"), range.get("end")));
         }
         if (showWeekFilterSelected) {
             appointmentFilterIntervalLabel.setText("Week");
@@ -425,28 +544,6 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
         appointmentFilterYearComboBox.setVisible(showAllAppointmentNotSelected);
     }
 
-    /**
-     * The filterAppointment method filters the appointments in the appointment table view
-     *
-     * @return Returns a list of appointment to be displayed in the table view
-     */
-    private ObservableList<Appointment> filterAppointments() {
-        if (!appointmentFilterShowAllRadioButton.isSelected() && appointmentFilterYearComboBox.getValue() != null) {
-            if (appointmentFilterToggleGroup.getSelectedToggle()
-                                            .equals(appointmentFilterWeekRadioButton)) {
-                populateWeeksComboBox();
-            } else if (appointmentFilterToggleGroup.getSelectedToggle()
-                                                   .equals(appointmentFilterMonthRadioButton)) {
-                populateMonthsComboBox();
-            }
-            return UIHelper.filterIntervals(appointmentFilterYearComboBox,
-                                            appointmentFilterIntervalComboBox,
-                                            appointmentFilterWeekRadioButton,
-                                            appointmentFilterMonthRadioButton);
-        }
-        return AppointmentQueryService.getAllAppointments();
-    }
-
     /**
      * The populateWeeksComboBox populated the interval comboBox with weeks if the week radio button is selected
      */
@@ -456,23 +553,10 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
             return;
         }
         DateTimeFormatter weekFormatter = DateTimeFormatter.ofPattern("'Week of' EE, M/dd 'thru Sat'");
-        ObservableList<LocalDate> weeks = FXCollections.observableArrayList();
-        LocalDate firstDayOfYear = selectedYear.atDay(1);
-        LocalDate lastDayOfYear = LocalDate.ofYearDay(selectedYear.getValue(), selectedYear.length());
-        LocalDate currentWeekStart = firstDayOfYear;
-        while (currentWeekStart.isBefore(lastDayOfYear)) {
-            LocalDate currentWeekEnd = currentWeekStart.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
-            List<Appointment> appointmentsInWeek = AppointmentQueryService.getAppointmentsInRange(
-                    currentWeekStart,
-                    currentWeekEnd.atTime(LocalTime.MAX)
-                                  .toLocalDate());
-            if (!appointmentsInWeek.isEmpty()) {
-                weeks.add(currentWeekStart);
-            }
-            currentWeekStart = currentWeekEnd.plusDays(1);
-        }
-        appointmentFilterIntervalComboBox.setConverter(TimeConversionService.displayedDateTime(weekFormatter));
-        appointmentFilterIntervalComboBox.setItems(weeks);
+        AsyncLoader.load("appointmentIntervals", () -> AppointmentQueryService.getActiveWeeks(selectedYear), weeks -> {
+            appointmentFilterIntervalComboBox.setConverter(TimeConversionService.displayedDateTime(weekFormatter));
+            appointmentFilterIntervalComboBox.setItems(FXCollections.observableArrayList(weeks));
+        });
     }
 
     /**
@@ -483,36 +567,19 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
         if (selectedYear == null) {
             return;
         }
-        ObservableList<LocalDate> months = FXCollections.observableArrayList();
-        ObservableList<Appointment> appointmentsInYear = AppointmentQueryService
-                .getAppointmentsInRange(
-                        selectedYear.atDay(1),
-                        LocalDate.ofYearDay(selectedYear.getValue(), selectedYear.length()));
-        for (int i = 1; i <= 12; i++) {
-            LocalDate month = LocalDate.of(selectedYear.getValue(), i, 1);
-            int finalI = i;
-            List<Appointment> appointmentsInMonth = appointmentsInYear.filtered(appointment ->
-                                                                                        appointment.getStart()
-                                                                                                   .toLocalDateTime()
-                                                                                                   .getMonthValue() ==
-                                                                                                finalI);
-            if (!appointmentsInMonth.isEmpty()) {
-                months.add(month);
-            }
-        }
-        appointmentFilterIntervalComboBox.setConverter(TimeConversionService.displayedDateTime(MONTH_FORMAT));
-        appointmentFilterIntervalComboBox.setItems(months);
+        AsyncLoader.load("appointmentIntervals", () -> AppointmentQueryService.getActiveMonths(selectedYear), months -> {
+            appointmentFilterIntervalComboBox.setConverter(TimeConversionService.displayedDateTime(MONTH_FORMAT));
+            appointmentFilterIntervalComboBox.setItems(FXCollections.observableArrayList(months));
+        });
     }
 
     /**
-     * The appointmentReminder method displays a popup specifying all appointment within a certain number of minutes
+     * The appointmentReminder method displays a popup specifying the appointments starting within the next few
+     * minutes. It is called by the ReminderScheduler at log-in and then whenever reminders come due.
+     *
+     * @param appointments The appointments starting within the next few minutes
      */
-    private void appointmentReminder() {
-        Timestamp now = TimeConversionService.getCurrentTimeInServerTime();
-        Timestamp fifteenMinutesFromNow = Timestamp.valueOf(now.toLocalDateTime()
-                                                               .plusMinutes(Main.APPOINTMENT_REMINDER_MINUTES));
-        ObservableList<Appointment> appointments =
-                AppointmentQueryService.getAppointmentsInRange(now, fifteenMinutesFromNow);
+    private void appointmentReminder(List<Appointment> appointments) {
         if (!appointments.isEmpty()) {
             StringBuilder message = new StringBuilder(
                     "You have appointments within the next " + Main.APPOINTMENT_REMINDER_MINUTES + " minutes:");
@@ -559,10 +626,11 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
                                             mainTabPane,
                                             AppointmentEntryController.class,
                                             this,
-                                            () -> setAppointmentTable(filterAppointments()),
+                                            null,
                                             false,
                                             false,
                                             true);
+            appointmentEntryController.setOnSaved(this::appointmentSaved);
             if (isModifyAppointment) {
                 appointmentEntryController.setAppointment(appointmentToBeModified);
                 appointmentEntryController.initAppointmentFields();
@@ -570,7 +638,37 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
         } catch (IOException io) {
             System.out.println("Loading Appointment Screen Unsuccessful");
         }
-        setAppointmentTable(filterAppointments());
+    }
+
+    /**
+     * The appointmentSaved method shows a saved appointment in the appointment table view in place of the row it
+     * replaces, without reloading the appointments that did not change
+     *
+     * @param appointment The appointment that was saved
+     */
+    private void appointmentSaved(Appointment appointment) {
+        ReminderScheduler.put(appointment);
+        if (isAppointmentTablePaged()) {
+            appointmentPageLoader.put(appointment);
+            return;
+        }
+        boolean shown = UIHelper.isInInterval(appointment,
+                                              appointmentFilterYearComboBox.getValue(),
+                                              appointmentFilterIntervalComboBox.getValue(),
+                                              appointmentFilterWeekRadioButton.isSelected(),
+                                              appointmentFilterMonthRadioButton.isSelected());
+        UIHelper.patchEntityTable(appointment, shown, appointmentTableView);
+    }
+
+    /**
+     * The isAppointmentTablePaged method returns a boolean specifying if the appointment table view holds the rows of
+     * the appointment page loader rather than the appointments of a selected year. The list held is checked instead of
+     * the filters, which have already changed while a refresh is loading or after it failed.
+     *
+     * @return Returns a boolean specifying if the appointment table view is paged
+     */
+    private boolean isAppointmentTablePaged() {
+        return appointmentPageLoader.isShowing();
     }
 
     /**
@@ -581,33 +679,94 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
                                                                  .getSelectedItem();
         if (appointmentToBeDeleted != null) {
             if (AlertHandler.deleteEntityPrompt(DBModels.APPOINTMENTS)) {
-                AppointmentQueryService.deleteAppointment(appointmentToBeDeleted);
-                AlertHandler.entityModified(DBModels.APPOINTMENTS, appointmentToBeDeleted, true);
-                setAppointmentTable(filterAppointments());
+                AsyncLoader.load(() -> {
+                    AppointmentQueryService.deleteAppointment(appointmentToBeDeleted);
+                    return appointmentToBeDeleted;
+                }, deleted -> {
+                    AlertHandler.entityModified(DBModels.APPOINTMENTS, deleted, true);
+                    ReminderScheduler.remove(deleted.getId());
+                    if (isAppointmentTablePaged()) {
+                        appointmentPageLoader.remove(deleted.getId());
+                    } else {
+                        UIHelper.patchEntityTable(deleted, false, appointmentTableView);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * The initCustomerTable method sets up the paging, sorting and searching of the customer table view. Sorting a
+     * column reloads the customers sorted by the database instead of sorting only the rows already loaded, and the
+     * division column, which displays names looked up separately, cannot be sorted.
+     */
+    private void initCustomerTable() {
+        customerPageLoader = new PagedTableLoader<>(customerTableView, "customerPages", CUSTOMER_PAGE_SIZE);
+        customerSortAttributes.put(idCustomerTableColumn, "id");
+        customerSortAttributes.put(nameCustomerTableColumn, "name");
+        customerSortAttributes.put(addressCustomerTableColumn, "address");
+        customerSortAttributes.put(postalCodeCustomerTableColumn, "postalCode");
+        customerSortAttributes.put(phoneCustomerTableColumn, "phone");
+        divisionCustomerTableColumn.setSortable(false);
+        customerTableView.setSortPolicy(tableView -> {
+            if (loadedCustomerSort != null && !loadedCustomerSort.equals(selectedCustomerSort())) {
+                refreshCustomerTable();
             }
+            return true;
+        });
+        customerSearchDelay.setOnFinished(actionEvent -> refreshCustomerTable());
+        customerSearchTextField.textProperty()
+                               .addListener((observable, oldText, newText) -> customerSearchDelay.playFromStart());
+    }
+
+    /**
+     * The selectedCustomerSort method returns the sort selected in the customer table view, sorting by ID when no
+     * column is selected
+     *
+     * @return Returns the selected sort
+     */
+    private CustomerSort selectedCustomerSort() {
+        if (customerTableView.getSortOrder()
+                             .isEmpty()) {
+            return new CustomerSort("id", true);
         }
+        TableColumn<Customer, ?> sortColumn = customerTableView.getSortOrder()
+                                                               .get(0);
+        return new CustomerSort(customerSortAttributes.getOrDefault(sortColumn, "id"),
+                                sortColumn.getSortType() == TableColumn.SortType.ASCENDING);
     }
 
     /**
-     * The setCustomerTable sets the customer table view a list of customers
+     * The refreshCustomerTable method loads the customers matching the search in the background, page by page as the
+     * table view is scrolled, discarding the result of any earlier refresh still in progress
+     */
+    private void refreshCustomerTable() {
+        String search = customerSearchTextField.getText();
+        CustomerSort sort = selectedCustomerSort();
+        loadedCustomerSort = sort;
+        AsyncLoader.load("customerTable", FirstLevelDivisionQueryService::getDivisionNamesById, divisionNames -> {
+            setCustomerColumns(divisionNames);
+            customerPageLoader.load((after, pageSize) -> CustomerQueryService.getCustomersAfter(
+                                            after, pageSize, search, sort.attribute(), sort.ascending()),
+                                    CustomerQueryService.getPageOrder(sort.attribute(), sort.ascending()),
+                                    customer -> CustomerQueryService.matchesSearch(customer, search));
+        });
+    }
+
+    /**
+     * The setCustomerColumns method sets how the columns of the customer table view display a customer
      *
-     * @param customerList The list of customers displayed in the table view
+     * @param divisionNames The names of the divisions of the customers by their ID
      */
-    private void setCustomerTable(ObservableList<Customer> customerList) {
+    private void setCustomerColumns(Map<Integer, String> divisionNames) {
         idCustomerTableColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
         nameCustomerTableColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
         addressCustomerTableColumn.setCellValueFactory(new PropertyValueFactory<>("address"));
         postalCodeCustomerTableColumn.setCellValueFactory(new PropertyValueFactory<>("postalCode"));
-        divisionCustomerTableColumn.setCellValueFactory(cellData -> {
-            int divisionId = cellData.getValue()
-                                     .getDivisionId();
-            String requestedColumn = DBModels.DIVISIONS.getAttributes()
-                                                       .get("name");
-            String division = FirstLevelDivisionQueryService.getMatchFromDatabase(divisionId, requestedColumn);
-            return new SimpleStringProperty(division);
-        });
+        divisionCustomerTableColumn.setCellValueFactory(cellData -> new SimpleStringProperty(
+                divisionNames.get(cellData.getValue()
+                                          .getDivisionId())));
         phoneCustomerTableColumn.setCellValueFactory(new PropertyValueFactory<>("phone"));
-        UIHelper.refreshEntityTable(customerList, customerTableView);
     }
 
     /**
@@ -635,11 +794,11 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
                                             mainTabPane,
                                             CustomerEntryController.class,
                                             this,
-                                            () -> UIHelper.refreshEntityTable(CustomerQueryService.getAllCustomers(),
-                                                                              customerTableView),
+                                            null,
                                             false,
                                             false,
                                             true);
+            customerEntryController.setOnSaved(customerPageLoader::put);
             if (isModifyCustomer) {
                 customerEntryController.setCustomer(customerToBeModified);
                 customerEntryController.initCustomerFields();
@@ -647,29 +806,132 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
         } catch (IOException io) {
             System.out.println("Loading Customer Screen Unsuccessful");
         }
-        setCustomerTable(CustomerQueryService.getAllCustomers());
     }
 
     /**
      * The deleteCustomer method displays a prompt confirming if a customer should be deleted, and the customer is
-     * deleted if the customer has no appointments scheduled
+     * deleted if the customer has no appointments scheduled. If the customer has appointments, the customer and all of
+     * their appointments are deleted together once that is confirmed.
      */
     private void deleteCustomer() {
         Customer customerToBeDeleted = customerTableView.getSelectionModel()
                                                         .getSelectedItem();
         if (customerToBeDeleted != null) {
             if (AlertHandler.deleteEntityPrompt(DBModels.CUSTOMERS)) {
-                if (!CustomerQueryService.deleteCustomer(customerToBeDeleted)) {
-                    AlertHandler.customErrorPopup(
-                            "ERROR: Appointments exist",
-                            "Unable to delete this customer.",
-                            "Please delete all appointments that this customer has");
-                } else {
-                    AlertHandler.entityModified(DBModels.CUSTOMERS, customerToBeDeleted, true);
-                }
-                UIHelper.refreshEntityTable(CustomerQueryService.getAllCustomers(), customerTableView);
+                AsyncLoader.load(() -> CustomerQueryService.deleteCustomer(customerToBeDeleted), result -> {
+                    switch (result) {
+                        case DELETED -> customerDeleted(customerToBeDeleted);
+                        case NOT_FOUND -> customerNotFound(customerToBeDeleted);
+                        case HAS_APPOINTMENTS -> {
+                            if (AlertHandler.confirmAction("This customer has appointments scheduled.",
+                                                           "Delete this customer and all of their appointments?")) {
+                                deleteCustomerWithAppointments(customerToBeDeleted);
+                            }
+                        }
+                    }
+                }).exceptionally(this::customerNotDeleted);
+            }
+        }
+    }
+
+    /**
+     * The deleteCustomerWithAppointments method deletes a customer along with all of their appointments in the
+     * background, then removes the appointments from the appointment table and their reminders
+     *
+     * @param customer The customer being deleted
+     */
+    private void deleteCustomerWithAppointments(Customer customer) {
+        AsyncLoader.load(() -> CustomerQueryService.deleteCustomerWithAppointments(customer), appointmentIds -> {
+            if (appointmentIds == null) {
+                customerNotFound(customer);
+                return;
             }
+            appointmentIds.forEach(ReminderScheduler::remove);
+            if (isAppointmentTablePaged()) {
+                appointmentPageLoader.remove(appointmentIds);
+            } else {
+                appointmentTableView.getItems()
+                                    .removeIf(appointment -> appointmentIds.contains(appointment.getId()));
+            }
+            customerDeleted(customer);
+        }).exceptionally(this::customerNotDeleted);
+    }
+
+    /**
+     * The customerDeleted method confirms a customer was deleted and removes it from the customer table
+     *
+     * @param customer The customer that was deleted
+     */
+    private void customerDeleted(Customer customer) {
+        AlertHandler.entityModified(DBModels.CUSTOMERS, customer, true);
+        customerPageLoader.remove(customer.getId());
+    }
+
+    /**
+     * The customerNotFound method reports a customer being deleted was already deleted by another user and removes it
+     * from the customer table
+     *
+     * @param customer The customer that no longer exists
+     */
+    private void customerNotFound(Customer customer) {
+        customerPageLoader.remove(customer.getId());
+        AlertHandler.customErrorPopup("ERROR: Customer not deleted",
+                                      "This customer no longer exists.",
+                                      "The customer was already deleted by another user");
+    }
+
+    /**
+     * The customerNotDeleted method reports a customer could not be deleted because of an error
+     *
+     * @param error The error thrown while deleting the customer
+     * @param <T>   The type of result the delete would have returned
+     * @return Returns null as the result of the failed delete
+     */
+    private <T> T customerNotDeleted(Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        AlertHandler.customErrorPopup("ERROR: Customer not deleted",
+                                      "Unable to delete this customer.",
+                                      cause.getMessage());
+        return null;
+    }
+
+    /**
+     * The importFile method asks for a comma separated file and imports it in the background, then displays a summary
+     * of the rows imported and rejected
+     *
+     * @param title      The title of the file chooser
+     * @param model      The type of database entity model imported
+     * @param importer   The import run on the chosen file
+     * @param onImported The runnable performed once rows have been imported
+     */
+    private void importFile(String title, DBModels model, FileImporter importer, Runnable onImported) {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle(title);
+        fileChooser.getExtensionFilters()
+                   .add(new FileChooser.ExtensionFilter("CSV Files", "*.csv"));
+        File file = fileChooser.showOpenDialog(mainTabPane.getScene()
+                                                          .getWindow());
+        if (file == null) {
+            return;
         }
+        AsyncLoader.load(() -> {
+            try {
+                return importer.importFile(file.toPath());
+            } catch (IOException io) {
+                throw new UncheckedIOException(io);
+            }
+        }, result -> {
+            AlertHandler.importSummary(model, result);
+            if (result.imported() > 0) {
+                onImported.run();
+            }
+        }).exceptionally(error -> {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            AlertHandler.customErrorPopup("ERROR: Import failed",
+                                          "Unable to import " + file.getName(),
+                                          cause.getMessage());
+            return null;
+        });
     }
 
     /**
@@ -697,6 +959,9 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
     private void logOut() {
         if (AlertHandler.logOutPrompt()) {
             LoginController.setProgramUser(null);
+            ReminderScheduler.stop();
+            ReferenceDataCache.invalidateAll();
+            AppointmentOverlapIndex.invalidateAll();
             Stage stage = (Stage) mainTabPane.getScene()
                                              .getWindow();
             stage.close();
@@ -716,4 +981,38 @@ public class MainController implements Initializable, DBQueries, TimeConversionS
             }
         }
     }
+
+    /**
+     * The AppointmentTableRows record holds the appointments and contact names loaded for the appointment table view
+     *
+     * @param appointments The appointments displayed in the table view
+     * @param contactNames The names of the contacts of the appointments by their ID
+     */
+    private record AppointmentTableRows(ObservableList<Appointment> appointments, Map<Integer, String> contactNames) {
+    }
+
+    /**
+     * The FileImporter interface imports the rows of a file into the database
+     */
+    @FunctionalInterface
+    private interface FileImporter {
+
+        /**
+         * The importFile method imports the rows of a file. It is called off the JavaFX application thread.
+         *
+         * @param file The file being imported
+         * @return Returns the number of rows imported and the rows rejected
+         * @throws IOException Throws IOException if the file could not be read
+         */
+        ImportResult importFile(Path file) throws IOException;
+    }
+
+    /**
+     * The CustomerSort record holds the attribute and direction the customer table view is sorted by
+     *
+     * @param attribute The customer attribute sorted by
+     * @param ascending Boolean specifying if the customers are sorted in ascending order
+     */
+    private record CustomerSort(String attribute, boolean ascending) {
+    }
 }
@@ -6,10 +6,12 @@ import com.cameronm.scheduleconsult.models.User;
 import com.cameronm.scheduleconsult.services.AppointmentQueryService;
 import com.cameronm.scheduleconsult.services.ContactQueryService;
 import com.cameronm.scheduleconsult.services.UserQueryService;
+import com.cameronm.scheduleconsult.utilities.AsyncLoader;
 import com.cameronm.scheduleconsult.utilities.CredentialLogger;
 import com.cameronm.scheduleconsult.utilities.UIHelper;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
+import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.TextArea;
 
@@ -58,12 +60,34 @@ public class ReportsController implements Initializable {
     @FXML
     private TextArea userModifiedAppointmentsTextArea;
 
+    /**
+     * The Button loading the next page of the modified appointments tab
+     */
+    @FXML
+    private Button userModifiedAppointmentsLoadMoreButton;
+
     /**
      * The TextArea displaying the content of the log-in reports tab
      */
     @FXML
     private TextArea logInReportTextArea;
 
+    /**
+     * The number of modified appointments loaded per page
+     */
+    private static final int MODIFIED_APPOINTMENTS_PAGE_SIZE = 50;
+
+    /**
+     * The formatter of the last updated date in the modified appointments report
+     */
+    private static final DateTimeFormatter MODIFIED_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("MMMM dd, yyyy 'at' h:mm a");
+
+    /**
+     * The number of modified appointments already displayed for the selected user
+     */
+    private int modifiedAppointmentsLoaded;
+
     /**
      * The initialize method initializes reports screen
      *
@@ -72,15 +96,17 @@ public class ReportsController implements Initializable {
      */
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
-        customerAppointmentsTextArea.setText(AppointmentQueryService.customerAppointmentReport());
+        AsyncLoader.load(AppointmentQueryService::customerAppointmentReport, customerAppointmentsTextArea::setText);
         contactSchedulesComboBox.setOnAction(actionEvent ->
                                                      contactSchedulesReport(contactSchedulesComboBox.getValue()));
         logInReportTextArea.setText(CredentialLogger.report());
         userModifiedAppointmentsComboBox.setOnAction(actionEvent ->
                                                              userModifiedAppointmentsReport(
                                                                      userModifiedAppointmentsComboBox.getValue()));
-        UIHelper.setEntityComboBox(ContactQueryService.getAllContacts(), contactSchedulesComboBox);
-        UIHelper.setEntityComboBox(UserQueryService.getAllUsers(), userModifiedAppointmentsComboBox);
+        AsyncLoader.load(ContactQueryService::getAllContacts,
+                         contacts -> UIHelper.setEntityComboBox(contacts, contactSchedulesComboBox));
+        AsyncLoader.load(UserQueryService::getAllUsers,
+                         users -> UIHelper.setEntityComboBox(users, userModifiedAppointmentsComboBox));
     }
 
     /**
@@ -90,49 +116,83 @@ public class ReportsController implements Initializable {
      */
     private void contactSchedulesReport(Contact contact) {
         if (contact != null) {
-            List<Appointment> contactAppointments = AppointmentQueryService
-                    .getAllAppointments()
-                    .stream()
-                    .filter(appointment -> appointment.getContactId() == contact.getId())
-                    .toList();
-            StringBuilder report = new StringBuilder();
-            contactAppointments.forEach(report::append);
-            contactSchedulesTextArea.setText(report.toString());
+            AsyncLoader.load("contactSchedule", () -> {
+                StringBuilder report = new StringBuilder();
+                AppointmentQueryService.getAppointmentsByContact(contact.getId(), report::append);
+                return report.toString();
+            }, contactSchedulesTextArea::setText);
         }
     }
 
     /**
      * The userModifiedAppointmentsReport displays a report showing the date of the appointments were modified from
-     * their original state
+     * their original state, starting with the first page of the most recently modified appointments
      *
      * @param user The user who modified the appointments in the report
      */
     private void userModifiedAppointmentsReport(User user) {
+        modifiedAppointmentsLoaded = 0;
+        userModifiedAppointmentsTextArea.clear();
+        userModifiedAppointmentsLoadMoreButton.setDisable(true);
+        if (user != null) {
+            loadModifiedAppointmentsPage(user);
+        }
+    }
+
+    /**
+     * The loadMoreModifiedAppointmentsClicked method appends the next page of the modified appointments report
+     */
+    @FXML
+    void loadMoreModifiedAppointmentsClicked() {
+        User user = userModifiedAppointmentsComboBox.getValue();
         if (user != null) {
-            List<Appointment> modifiedUpdates = AppointmentQueryService
-                    .getAllAppointments()
-                    .stream()
-                    .filter(appointment ->
-                                    appointment.getCreatedDate()
-                                               .getTime() != appointment.getLastUpdated()
-                                                                        .getTime() &&
-                                            appointment.getUserId() == user.getId())
-                    .toList();
-            StringBuilder report = new StringBuilder();
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMMM dd, yyyy 'at' h:mm a");
-            modifiedUpdates.forEach(appointment -> {
-                Timestamp lastUpdated = appointment.getLastUpdated();
-                report
-                        .append("Appointment with ID: ")
-                        .append(appointment.getId())
-                        .append(" was last updated by '")
-                        .append(user.getName())
-                        .append("' on ")
-                        .append(lastUpdated.toLocalDateTime()
-                                           .format(formatter))
-                        .append("\n\n");
-            });
-            userModifiedAppointmentsTextArea.setText(report.toString());
+            loadModifiedAppointmentsPage(user);
+        }
+    }
+
+    /**
+     * The loadModifiedAppointmentsPage method appends the next page of a user's modified appointments to the report.
+     * One extra appointment is requested to know if another page follows, without counting the whole history.
+     *
+     * @param user The user who modified the appointments in the report
+     */
+    private void loadModifiedAppointmentsPage(User user) {
+        int offset = modifiedAppointmentsLoaded;
+        userModifiedAppointmentsLoadMoreButton.setDisable(true);
+        AsyncLoader.load("modifiedAppointments",
+                         () -> AppointmentQueryService.getModifiedAppointmentsByUser(
+                                 user.getId(),
+                                 MODIFIED_APPOINTMENTS_PAGE_SIZE + 1,
+                                 offset),
+                         page -> appendModifiedAppointmentsPage(user, page));
+    }
+
+    /**
+     * The appendModifiedAppointmentsPage method appends a loaded page of a user's modified appointments to the report
+     *
+     * @param user            The user who modified the appointments in the report
+     * @param modifiedUpdates The page of modified appointments, with one extra appointment if another page follows
+     */
+    private void appendModifiedAppointmentsPage(User user, List<Appointment> modifiedUpdates) {
+        boolean hasMorePages = modifiedUpdates.size() > MODIFIED_APPOINTMENTS_PAGE_SIZE;
+        if (hasMorePages) {
+            modifiedUpdates = modifiedUpdates.subList(0, MODIFIED_APPOINTMENTS_PAGE_SIZE);
         }
+        StringBuilder report = new StringBuilder();
+        modifiedUpdates.forEach(appointment -> {
+            Timestamp lastUpdated = appointment.getLastUpdated();
+            report
+                    .append("Appointment with ID: ")
+                    .append(appointment.getId())
+                    .append(" was last updated by '")
+                    .append(user.getName())
+                    .append("' on ")
+                    .append(lastUpdated.toLocalDateTime()
+                                       .format(MODIFIED_DATE_FORMAT))
+                    .append("\n\n");
+        });
+        modifiedAppointmentsLoaded += modifiedUpdates.size();
+        userModifiedAppointmentsTextArea.appendText(report.toString());
+        userModifiedAppointmentsLoadMoreButton.setDisable(!hasMorePages);
     }
 }
@@ -0,0 +1,309 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.DAO.DBModels;
+import com.cameronm.scheduleconsult.DAO.QueryBuilder;
+import com.cameronm.scheduleconsult.models.Appointment;
+import com.cameronm.scheduleconsult.settings.DatabaseConfig;
+import com.cameronm.scheduleconsult.utilities.CsvReader;
+import com.cameronm.scheduleconsult.utilities.InputValidator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * The AppointmentImportService class imports appointments from a comma separated file. Every row is validated in
+ * memory against the business hours of the company and the appointments of its customer, both those already in the
+ * database and those earlier in the file, and the valid rows are inserted in batches by a BatchImporter, which reports
+ * back the rows that are invalid or whose batch could not be saved instead of stopping the import. The appointment
+ * times of the customers named in the file are loaded in bulk before the rows are read, IMPORT_BATCH_SIZE customers
+ * per query. The times of the rows whose batch could not be saved are released, so later rows may take them.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public abstract class AppointmentImportService implements DatabaseConfig, TimeConversionService {
+
+    /**
+     * The column names of the appointments table
+     */
+    private static final Map<String, String> ATTRIBUTES = DBModels.APPOINTMENTS.getAttributes();
+
+    /**
+     * The header names of the columns the file must have, which are the column names of the appointments table
+     */
+    private static final String[] COLUMNS = {
+            ATTRIBUTES.get("name"),
+            ATTRIBUTES.get("description"),
+            ATTRIBUTES.get("location"),
+            ATTRIBUTES.get("type"),
+            ATTRIBUTES.get("start"),
+            ATTRIBUTES.get("end"),
+            ATTRIBUTES.get("customerId"),
+            ATTRIBUTES.get("userId"),
+            ATTRIBUTES.get("contactId")
+    };
+
+    /**
+     * The importAppointments method imports the appointments of a comma separated file. The file must have a header
+     * row naming the Title, Description, Location, Type, Start, End, Customer_ID, User_ID and Contact_ID columns, with
+     * the start and end in the local timezone in the IMPORT_DATE_TIME_FORMAT.
+     *
+     * @param file       The file being imported
+     * @param importedBy The name of the user importing the file
+     * @return Returns the IDs of the appointments imported and the rows rejected
+     * @throws IOException Throws IOException if the file could not be read or is missing a column, or if the
+     *                     customers and their appointments could not be loaded
+     */
+    public static ImportResult importAppointments(Path file, String importedBy) throws IOException {
+        Set<Integer> customerIds;
+        Map<Integer, TreeMap<Long, Long>> importedIntervals;
+        try {
+            customerIds = loadCustomerIds();
+            importedIntervals = loadIntervals(readCustomerIds(file, customerIds));
+        } catch (SQLException sqlException) {
+            throw new IOException("The customers and their appointments could not be loaded", sqlException);
+        }
+        BatchImporter<Appointment> importer = new BatchImporter<>(
+                AppointmentQueryService.ADD_APPOINTMENT_QUERY,
+                (statement, appointment) -> AppointmentQueryService.setAppointmentStatement(statement,
+                                                                                              appointment,
+                                                                                              true),
+                AppointmentOverlapIndex::addAll,
+                appointment -> importedIntervals.get(appointment.getCustomerId())
+                                                .remove(appointment.getStart()
+                                                                   .getTime()));
+        return importer.importFile(file, (reader, row) -> {
+            Appointment appointment = readAppointment(reader, row, importedBy, customerIds);
+            reserveInterval(appointment, importedIntervals);
+            return appointment;
+        }, COLUMNS);
+    }
+
+    /**
+     * The loadCustomerIds method selects the ID of every customer in the database
+     *
+     * @return Returns the IDs of the customers
+     * @throws SQLException Throws SQLException if the query fails
+     */
+    private static Set<Integer> loadCustomerIds() throws SQLException {
+        return QueryService.getResult(QueryBuilder.select(DBModels.CUSTOMERS,
+                                                          DBModels.CUSTOMERS.getAttributes()
+                                                                            .get("id")), resultSet -> {
+            Set<Integer> customerIds = new HashSet<>();
+            while (resultSet.next()) {
+                customerIds.add(resultSet.getInt(1));
+            }
+            return customerIds;
+        });
+    }
+
+    /**
+     * The readCustomerIds method reads the customer IDs of the rows of the file that name an existing customer
+     *
+     * @param file        The file being imported
+     * @param customerIds The IDs of every customer in the database
+     * @return Returns the IDs of the customers named in the file
+     * @throws IOException Throws IOException if the file could not be read or is missing a column
+     */
+    private static Set<Integer> readCustomerIds(Path file, Set<Integer> customerIds) throws IOException {
+        Set<Integer> fileCustomerIds = new HashSet<>();
+        try (CsvReader reader = new CsvReader(file)) {
+            reader.requireColumns(COLUMNS);
+            List<String> row;
+            while ((row = reader.readRow()) != null) {
+                String customerId = reader.get(row, ATTRIBUTES.get("customerId"));
+                if (InputValidator.isValidEntityId(customerId) &&
+                        customerIds.contains(Integer.parseInt(customerId))) {
+                    fileCustomerIds.add(Integer.parseInt(customerId));
+                }
+            }
+        }
+        return fileCustomerIds;
+    }
+
+    /**
+     * The loadIntervals method loads the times of the appointments of some customers in the database, with one query
+     * for every IMPORT_BATCH_SIZE customers
+     *
+     * @param customerIds The IDs of the customers
+     * @return Returns the times of the appointments of each customer, as ends by start
+     * @throws SQLException Throws SQLException if a query fails
+     */
+    private static Map<Integer, TreeMap<Long, Long>> loadIntervals(Set<Integer> customerIds) throws SQLException {
+        Map<Integer, TreeMap<Long, Long>> intervals = new HashMap<>();
+        List<Integer> customers = new ArrayList<>(customerIds);
+        for (int from = 0; from < customers.size(); from += IMPORT_BATCH_SIZE) {
+            List<Integer> batch = customers.subList(from, Math.min(from + IMPORT_BATCH_SIZE, customers.size()));
+            QueryService.getResult(QueryBuilder.select(DBModels.APPOINTMENTS,
+                                                       ATTRIBUTES.get("customerId"),
+                                                       ATTRIBUTES.get("start"),
+                                                       ATTRIBUTES.get("end"))
+                                               .where()
+                                               .in(ATTRIBUTES.get("customerId"), batch), resultSet -> {
+                while (resultSet.next()) {
+                    addExistingInterval(intervals.computeIfAbsent(resultSet.getInt(1), customerId -> new TreeMap<>()),
+                                        QueryService.getServerTimestamp(resultSet, 2)
+                                                    .getTime(),
+                                        QueryService.getServerTimestamp(resultSet, 3)
+                                                    .getTime());
+                }
+                return null;
+            });
+        }
+        return intervals;
+    }
+
+    /**
+     * The addExistingInterval method adds the time of an appointment in the database to the times of its customer,
+     * merging it with any time it overlaps, so the times of a customer never overlap each other even if the database
+     * already holds overlapping appointments
+     *
+     * @param intervals The times of the customer, as ends by start
+     * @param start     The start of the appointment in milliseconds
+     * @param end       The end of the appointment in milliseconds
+     */
+    private static void addExistingInterval(TreeMap<Long, Long> intervals, long start, long end) {
+        Map.Entry<Long, Long> previous = intervals.floorEntry(start);
+        if (previous != null && previous.getValue() > start) {
+            start = previous.getKey();
+            end = Math.max(end, previous.getValue());
+        }
+        Map.Entry<Long, Long> next;
+        while ((next = intervals.ceilingEntry(start)) != null && next.getKey() < end) {
+            end = Math.max(end, next.getValue());
+            intervals.remove(next.getKey());
+        }
+        intervals.merge(start, end, Math::max);
+    }
+
+    /**
+     * The readAppointment method converts a row of the file into an appointment, checking each of its fields
+     *
+     * @param reader      The reader of the file
+     * @param row         The fields of the row
+     * @param importedBy  The name of the user importing the file
+     * @param customerIds The IDs of every customer in the database
+     * @return Returns the appointment of the row
+     * @throws IllegalArgumentException Throws IllegalArgumentException if a field is invalid
+     * @throws DateTimeException        Throws DateTimeException if the times are outside of business hours
+     */
+    private static Appointment readAppointment(CsvReader reader,
+                                               List<String> row,
+                                               String importedBy,
+                                               Set<Integer> customerIds) {
+        String title = readText(reader, row, "name");
+        String description = readText(reader, row, "description");
+        String location = readText(reader, row, "location");
+        String type = readText(reader, row, "type");
+        LocalDateTime start = readDateTime(reader, row, "start");
+        LocalDateTime end = readDateTime(reader, row, "end");
+        Exception businessHoursError = InputValidator.checkBusinessHours(start.toLocalDate(),
+                                                                         start.toLocalTime(),
+                                                                         end.toLocalDate(),
+                                                                         end.toLocalTime());
+        if (businessHoursError != null) {
+            throw new DateTimeException(businessHoursError.getMessage());
+        }
+        int customerId = readId(reader, row, "customerId");
+        if (!customerIds.contains(customerId)) {
+            throw new IllegalArgumentException("No customer with the ID " + customerId + " exists in the database");
+        }
+        int userId = readId(reader, row, "userId");
+        if (UserQueryService.retrieveUserById(userId) == null) {
+            throw new IllegalArgumentException("No user with the ID " + userId + " exists in the database");
+        }
+        int contactId = readId(reader, row, "contactId");
+        if (ContactQueryService.getContactById(contactId) == null) {
+            throw new IllegalArgumentException("No contact with the ID " + contactId + " exists in the database");
+        }
+        return new Appointment(-1,
+                               title,
+                               null,
+                               importedBy,
+                               null,
+                               importedBy,
+                               description,
+                               location,
+                               type,
+                               Timestamp.valueOf(start),
+                               Timestamp.valueOf(end),
+                               customerId,
+                               userId,
+                               contactId);
+    }
+
+    /**
+     * The readText method returns a text field of a row, checking it is present and fits its column
+     *
+     * @param reader    The reader of the file
+     * @param row       The fields of the row
+     * @param attribute The appointment attribute of the field
+     * @return Returns the text of the field
+     */
+    private static String readText(CsvReader reader, List<String> row, String attribute) {
+        return BatchImporter.readText(reader, row, ATTRIBUTES.get(attribute), 50);
+    }
+
+    /**
+     * The readId method returns an ID field of a row
+     *
+     * @param reader    The reader of the file
+     * @param row       The fields of the row
+     * @param attribute The appointment attribute of the field
+     * @return Returns the ID
+     */
+    private static int readId(CsvReader reader, List<String> row, String attribute) {
+        String column = ATTRIBUTES.get(attribute);
+        String id = reader.get(row, column);
+        if (!InputValidator.isValidEntityId(id)) {
+            throw new IllegalArgumentException("Invalid " + column);
+        }
+        return Integer.parseInt(id);
+    }
+
+    /**
+     * The readDateTime method returns a date and time field of a row
+     *
+     * @param reader    The reader of the file
+     * @param row       The fields of the row
+     * @param attribute The appointment attribute of the field
+     * @return Returns the date and time in the local timezone
+     */
+    private static LocalDateTime readDateTime(CsvReader reader, List<String> row, String attribute) {
+        String column = ATTRIBUTES.get(attribute);
+        try {
+            return LocalDateTime.parse(reader.get(row, column), IMPORT_DATE_TIME_FORMAT);
+        } catch (DateTimeException dateTimeException) {
+            throw new IllegalArgumentException("Invalid " + column);
+        }
+    }
+
+    /**
+     * The reserveInterval method checks that an appointment overlaps neither an appointment of its customer in the
+     * database nor one earlier in the file, then reserves its time for the customer. The times of a customer never
+     * overlap each other, so the only one that can overlap is the last one starting before this one ends.
+     *
+     * @param appointment       The appointment being imported
+     * @param importedIntervals The times of the appointments in the database and reserved so far for each customer,
+     *                          as ends by start
+     * @throws IllegalStateException Throws IllegalStateException if the appointment overlaps another
+     */
+    private static void reserveInterval(Appointment appointment, Map<Integer, TreeMap<Long, Long>> importedIntervals) {
+        long start = appointment.getStart()
+                                .getTime();
+        long end = appointment.getEnd()
+                              .getTime();
+        TreeMap<Long, Long> intervals = importedIntervals.computeIfAbsent(appointment.getCustomerId(),
+                                                                          customerId -> new TreeMap<>());
+        Map.Entry<Long, Long> previous = intervals.lowerEntry(end);
+        if (previous != null && previous.getValue() > start) {
+            throw new IllegalStateException("The customer has an existing appointment during this time");
+        }
+        intervals.put(start, end);
+    }
+}
@@ -0,0 +1,346 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.DAO.DBModels;
+import com.cameronm.scheduleconsult.DAO.QueryBuilder;
+import com.cameronm.scheduleconsult.models.Appointment;
+import com.cameronm.scheduleconsult.settings.DatabaseConfig;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * The AppointmentOverlapIndex class answers whether a customer already has an appointment during a range of time. The
+ * appointments of each customer checked are loaded once into an interval index held in memory, which is updated by
+ * every appointment written through the AppointmentQueryService, so checks can be run as often as the times on the
+ * appointment entry screen change. A customer whose appointments cannot be loaded is checked with a single indexed
+ * query instead. Since the appointments written by other clients only appear once the intervals expire, the index only
+ * serves warnings, and an appointment is checked against the database again when it is saved. The intervals of at most APPOINTMENT_INTERVAL_MAX_CUSTOMERS customers are kept, and the customer of
+ * each loaded appointment is tracked, so a write only touches the intervals of the customers it concerns.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public abstract class AppointmentOverlapIndex implements DatabaseConfig {
+
+    /**
+     * The loaded appointment intervals of each customer by the customer ID, in least recently used order. The index is
+     * guarded by locking this map.
+     */
+    private static final Map<Integer, CustomerIntervals> INTERVALS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, CustomerIntervals> eldest) {
+            if (size() > APPOINTMENT_INTERVAL_MAX_CUSTOMERS) {
+                forgetCustomers(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * The customer ID of each appointment in the loaded intervals by the appointment ID
+     */
+    private static final Map<Integer, Integer> CUSTOMERS = new HashMap<>();
+
+    /**
+     * The number of changes made to the index, so intervals loaded while the index changed are not kept
+     */
+    private static long version;
+
+    /**
+     * The hasOverlap method returns a boolean specifying if a customer has an appointment overlapping a range of time.
+     * Appointments that only touch the range at its start or end do not overlap it.
+     *
+     * @param customerId            The ID of the customer
+     * @param start                 The start of the range in local time
+     * @param end                   The end of the range in local time
+     * @param excludedAppointmentId The ID of an appointment ignored by the check, such as the one being modified, or
+     *                              -1 to check every appointment
+     * @return Returns a boolean specifying if the customer has an overlapping appointment
+     */
+    public static boolean hasOverlap(int customerId, Timestamp start, Timestamp end, int excludedAppointmentId) {
+        CustomerIntervals intervals = intervals(customerId);
+        if (intervals == null) {
+            return AppointmentQueryService.queryCustomerOverlap(customerId, start, end, excludedAppointmentId);
+        }
+        return intervals.overlaps(start.getTime(), end.getTime(), excludedAppointmentId);
+    }
+
+    /**
+     * The put method adds a saved appointment to the index, moving it from the intervals of its previous customer if
+     * its customer has changed. Only customers already loaded are updated.
+     *
+     * @param appointment The appointment that was added or modified
+     */
+    public static void put(Appointment appointment) {
+        synchronized (INTERVALS) {
+            removeInterval(appointment.getId());
+            addIntervals(appointment.getCustomerId(), List.of(Interval.of(appointment)));
+        }
+    }
+
+    /**
+     * The addAll method adds newly inserted appointments to the index, rebuilding the intervals of each customer loaded
+     * once rather than once per appointment
+     *
+     * @param appointments The appointments that were inserted
+     */
+    public static void addAll(Collection<Appointment> appointments) {
+        Map<Integer, List<Interval>> added = new HashMap<>();
+        for (Appointment appointment : appointments) {
+            added.computeIfAbsent(appointment.getCustomerId(), customerId -> new ArrayList<>())
+                 .add(Interval.of(appointment));
+        }
+        synchronized (INTERVALS) {
+            added.forEach(AppointmentOverlapIndex::addIntervals);
+        }
+    }
+
+    /**
+     * The remove method removes a deleted appointment from the index
+     *
+     * @param appointmentId The ID of the appointment
+     */
+    public static void remove(int appointmentId) {
+        synchronized (INTERVALS) {
+            removeInterval(appointmentId);
+        }
+    }
+
+    /**
+     * The invalidate method discards the loaded intervals of a customer, such as after their appointments were deleted
+     * together
+     *
+     * @param customerId The ID of the customer
+     */
+    public static void invalidate(int customerId) {
+        synchronized (INTERVALS) {
+            version++;
+            forgetCustomers(INTERVALS.remove(customerId));
+        }
+    }
+
+    /**
+     * The invalidateAll method discards every loaded interval, so they are loaded again when next checked
+     */
+    public static void invalidateAll() {
+        synchronized (INTERVALS) {
+            version++;
+            INTERVALS.clear();
+            CUSTOMERS.clear();
+        }
+    }
+
+    /**
+     * The addIntervals method adds the intervals of saved appointments to a customer, if the customer is loaded. The
+     * caller must hold the lock of the index.
+     *
+     * @param customerId The ID of the customer
+     * @param added      The intervals of the appointments
+     */
+    private static void addIntervals(int customerId, List<Interval> added) {
+        version++;
+        CustomerIntervals intervals = INTERVALS.get(customerId);
+        if (intervals == null) {
+            return;
+        }
+        INTERVALS.put(customerId, intervals.with(added));
+        for (Interval interval : added) {
+            CUSTOMERS.put(interval.appointmentId(), customerId);
+        }
+    }
+
+    /**
+     * The removeInterval method removes the interval of an appointment from the customer it was loaded for. The caller
+     * must hold the lock of the index.
+     *
+     * @param appointmentId The ID of the appointment
+     */
+    private static void removeInterval(int appointmentId) {
+        version++;
+        Integer customerId = CUSTOMERS.remove(appointmentId);
+        if (customerId == null) {
+            return;
+        }
+        CustomerIntervals intervals = INTERVALS.get(customerId);
+        if (intervals != null) {
+            INTERVALS.put(customerId, intervals.without(appointmentId));
+        }
+    }
+
+    /**
+     * The forgetCustomers method stops tracking the customer of the appointments in discarded intervals. The caller
+     * must hold the lock of the index.
+     *
+     * @param intervals The discarded intervals, or null
+     */
+    private static void forgetCustomers(CustomerIntervals intervals) {
+        if (intervals == null) {
+            return;
+        }
+        for (Interval interval : intervals.intervals()) {
+            CUSTOMERS.remove(interval.appointmentId());
+        }
+    }
+
+    /**
+     * The intervals method returns the appointment intervals of a customer, loading them if they are missing or
+     * expired. The appointments are read without holding the lock of the index, and the intervals read are only kept if
+     * the index did not change meanwhile.
+     *
+     * @param customerId The ID of the customer
+     * @return Returns the intervals of the customer, or null if they could not be loaded
+     */
+    private static CustomerIntervals intervals(int customerId) {
+        long loadedAt;
+        synchronized (INTERVALS) {
+            CustomerIntervals intervals = INTERVALS.get(customerId);
+            if (intervals != null && !intervals.isExpired()) {
+                return intervals;
+            }
+            loadedAt = version;
+        }
+        List<Interval> loaded = new ArrayList<>();
+        QueryBuilder query = QueryBuilder.selectAll(DBModels.APPOINTMENTS)
+                                         .where()
+                                         .equalTo(DBModels.APPOINTMENTS.getAttributes()
+                                                                       .get("customerId"), customerId);
+        try {
+            QueryService.<Appointment>readEntities(DBModels.APPOINTMENTS,
+                                                   query,
+                                                   appointment -> loaded.add(Interval.of(appointment)));
+        } catch (SQLException sqlException) {
+            sqlException.printStackTrace();
+            invalidate(customerId);
+            return null;
+        }
+        CustomerIntervals intervals = CustomerIntervals.of(loaded,
+                                                           System.currentTimeMillis() + APPOINTMENT_INTERVAL_TTL_MILLIS);
+        synchronized (INTERVALS) {
+            if (version == loadedAt) {
+                forgetCustomers(INTERVALS.put(customerId, intervals));
+                for (Interval interval : intervals.intervals()) {
+                    CUSTOMERS.put(interval.appointmentId(), customerId);
+                }
+            }
+        }
+        return intervals;
+    }
+
+    /**
+     * The Interval record holds the range of time of an appointment
+     *
+     * @param appointmentId The ID of the appointment
+     * @param start         The start of the appointment in milliseconds
+     * @param end           The end of the appointment in milliseconds
+     */
+    private record Interval(int appointmentId, long start, long end) {
+
+        /**
+         * The of method returns the interval of an appointment
+         *
+         * @param appointment The appointment
+         * @return Returns the interval of the appointment
+         */
+        private static Interval of(Appointment appointment) {
+            return new Interval(appointment.getId(),
+                                appointment.getStart()
+                                           .getTime(),
+                                appointment.getEnd()
+                                           .getTime());
+        }
+    }
+
+    /**
+     * The CustomerIntervals record holds the appointment intervals of a customer sorted by their start, along with the
+     * latest end among each interval and the intervals before it. A check finds the last interval starting before the
+     * end of the range with a binary search, then walks back only while an earlier interval could still end after the
+     * start of the range, so a check costs a logarithmic search rather than a pass over every appointment.
+     *
+     * @param intervals The intervals sorted by their start
+     * @param maxEnds   The latest end among each interval and the intervals before it
+     * @param expiresAt The time in milliseconds at which the intervals expire
+     */
+    private record CustomerIntervals(Interval[] intervals, long[] maxEnds, long expiresAt) {
+
+        /**
+         * The of method returns the index of a list of intervals
+         *
+         * @param intervals The intervals in any order
+         * @param expiresAt The time in milliseconds at which the intervals expire
+         * @return Returns the index of the intervals
+         */
+        private static CustomerIntervals of(List<Interval> intervals, long expiresAt) {
+            Interval[] sorted = intervals.toArray(new Interval[0]);
+            Arrays.sort(sorted, Comparator.comparingLong(Interval::start));
+            long[] maxEnds = new long[sorted.length];
+            long maxEnd = Long.MIN_VALUE;
+            for (int i = 0; i < sorted.length; i++) {
+                maxEnd = Math.max(maxEnd, sorted[i].end());
+                maxEnds[i] = maxEnd;
+            }
+            return new CustomerIntervals(sorted, maxEnds, expiresAt);
+        }
+
+        /**
+         * The overlaps method returns a boolean specifying if any interval overlaps a range
+         *
+         * @param start                 The start of the range in milliseconds
+         * @param end                   The end of the range in milliseconds
+         * @param excludedAppointmentId The ID of an appointment ignored by the check
+         * @return Returns a boolean specifying if an interval overlaps the range
+         */
+        private boolean overlaps(long start, long end, int excludedAppointmentId) {
+            int low = 0;
+            int high = intervals.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (intervals[middle].start() < end) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            for (int i = high; i >= 0 && maxEnds[i] > start; i--) {
+                if (intervals[i].end() > start && intervals[i].appointmentId() != excludedAppointmentId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * The with method returns a copy of the index with intervals added
+         *
+         * @param added The intervals added
+         * @return Returns the new index
+         */
+        private CustomerIntervals with(List<Interval> added) {
+            List<Interval> updated = new ArrayList<>(Arrays.asList(intervals));
+            updated.addAll(added);
+            return of(updated, expiresAt);
+        }
+
+        /**
+         * The without method returns a copy of the index without the interval of an appointment
+         *
+         * @param appointmentId The ID of the appointment removed
+         * @return Returns the new index
+         */
+        private CustomerIntervals without(int appointmentId) {
+            List<Interval> updated = new ArrayList<>(Arrays.asList(intervals));
+            updated.removeIf(interval -> interval.appointmentId() == appointmentId);
+            return of(updated, expiresAt);
+        }
+
+        /**
+         * The isExpired method returns a boolean specifying if the intervals have outlived their time to live
+         *
+         * @return Returns a boolean specifying if the intervals are expired
+         */
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
@@ -3,13 +3,16 @@ package com.cameronm.scheduleconsult.services;
 import com.cameronm.scheduleconsult.DAO.DBConnection;
 import com.cameronm.scheduleconsult.DAO.DBModels;
 import com.cameronm.scheduleconsult.DAO.DBQueries;
+import com.cameronm.scheduleconsult.DAO.QueryBuilder;
+import com.cameronm.scheduleconsult.DAO.Transaction;
 import com.cameronm.scheduleconsult.models.Appointment;
 import javafx.collections.ObservableList;
 
 import java.sql.*;
 import java.time.*;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * The AppointmentQueryService class is responsible for converting entries in the appointments table of the database
@@ -31,60 +34,57 @@ public abstract class AppointmentQueryService extends QueryService implements DB
      * @return Returns an ObservableList of all appointments
      */
     public static ObservableList<Appointment> getAllAppointments() {
-        return getAppointments(SELECT_ALL);
+        return getAppointments(QueryBuilder.selectAll(DBModels.APPOINTMENTS));
     }
 
     /**
      * The getAppointments method returns an ObservableList of specific appointments in the database
      *
-     * @param sqlQuery The query specifying the appointments to return
+     * @param query The query specifying the appointments to return
      * @return Returns an ObservableList of appointments specified by the query
      */
-    public static ObservableList<Appointment> getAppointments(String sqlQuery) {
-        return QueryService.getEntities(DBModels.APPOINTMENTS, sqlQuery);
+    public static ObservableList<Appointment> getAppointments(QueryBuilder query) {
+        return QueryService.getEntities(DBModels.APPOINTMENTS, query);
     }
 
     /**
-     * The getAppointment method takes a result set and previously retrieved common attributes and retrieves all the
-     * rest of the remaining appointment attributes and returns the appointment
+     * The appointmentMapper method returns a row mapper converting the rows of a result set from the appointments table
+     * into appointments. The index of each column is resolved once here, so every row is read by its int indexes alone.
      *
-     * @param results          The results set passed in from an entry in the appointments table
-     * @param entityAttributes Common attribute types that are shared by all audited entities
-     * @return Returns an appointment
-     * @throws SQLException Throws SQLException if the ResultSet is invalid
+     * @param columns The column index of each appointment attribute in the result set
+     * @return Returns the row mapper of the result set
+     * @throws SQLException Throws SQLException if an attribute is not in the result set
      */
-    static Appointment getAppointment(ResultSet results, HashMap<String, String> entityAttributes) throws SQLException {
-        entityAttributes.put("description", results.getString(ATTRIBUTES.get("description")));
-        entityAttributes.put("location", results.getString(ATTRIBUTES.get("location")));
-        entityAttributes.put("type", results.getString(ATTRIBUTES.get("type")));
-        entityAttributes.put("start", results.getString(ATTRIBUTES.get("start")));
-        entityAttributes.put("end", results.getString(ATTRIBUTES.get("end")));
-        entityAttributes.put("customerId", results.getString(ATTRIBUTES.get("customerId")));
-        entityAttributes.put("userId", results.getString(ATTRIBUTES.get("userId")));
-        entityAttributes.put("contactId", results.getString(ATTRIBUTES.get("contactId")));
-        String description = entityAttributes.get("description");
-        String location = entityAttributes.get("location");
-        String type = entityAttributes.get("type");
-        Timestamp start = TimeConversionService.convertFromServerTime(Timestamp.valueOf(entityAttributes.get("start")));
-        Timestamp end = TimeConversionService.convertFromServerTime(Timestamp.valueOf(entityAttributes.get("end")));
-        int customerId = Integer.parseInt(entityAttributes.get("customerId"));
-        int userId = Integer.parseInt(entityAttributes.get("userId"));
-        int contactId = Integer.parseInt(entityAttributes.get("contactId"));
-        return new Appointment(
-                Integer.parseInt(entityAttributes.get("id")),
-                entityAttributes.get("name"),
-                TimeConversionService.convertFromServerTime(Timestamp.valueOf(entityAttributes.get("createDate"))),
-                entityAttributes.get("createdBy"),
-                TimeConversionService.convertFromServerTime(Timestamp.valueOf(entityAttributes.get("lastUpdate"))),
-                entityAttributes.get("lastUpdatedBy"),
-                description,
-                location,
-                type,
-                start,
-                end,
-                customerId,
-                userId,
-                contactId
+    static RowMapper<Appointment> appointmentMapper(ColumnIndexes columns) throws SQLException {
+        int id = columns.of("id");
+        int name = columns.of("name");
+        int createDate = columns.of("createDate");
+        int createdBy = columns.of("createdBy");
+        int lastUpdate = columns.of("lastUpdate");
+        int lastUpdatedBy = columns.of("lastUpdatedBy");
+        int description = columns.of("description");
+        int location = columns.of("location");
+        int type = columns.of("type");
+        int start = columns.of("start");
+        int end = columns.of("end");
+        int customerId = columns.of("customerId");
+        int userId = columns.of("userId");
+        int contactId = columns.of("contactId");
+        return results -> new Appointment(
+                results.getInt(id),
+                results.getString(name),
+                getServerTimestamp(results, createDate),
+                results.getString(createdBy),
+                getServerTimestamp(results, lastUpdate),
+                results.getString(lastUpdatedBy),
+                results.getString(description),
+                results.getString(location),
+                results.getString(type),
+                getServerTimestamp(results, start),
+                getServerTimestamp(results, end),
+                results.getInt(customerId),
+                results.getInt(userId),
+                results.getInt(contactId)
         );
     }
 
@@ -94,7 +94,7 @@ public abstract class AppointmentQueryService extends QueryService implements DB
      * @param appointmentId The ID of the appointment
      * @return returns an appointment entity
      */
-    private static Appointment getAppointmentById(int appointmentId) {
+    public static Appointment getAppointmentById(int appointmentId) {
         return QueryService.getEntityById(DBModels.APPOINTMENTS, appointmentId);
     }
 
@@ -104,79 +104,127 @@ public abstract class AppointmentQueryService extends QueryService implements DB
      * @param appointmentToBeDeleted The appointment being deleted
      */
     public static void deleteAppointment(Appointment appointmentToBeDeleted) {
-        QueryService.deleteEntityById(DBModels.APPOINTMENTS, appointmentToBeDeleted.getId());
+        if (QueryService.deleteEntityById(DBModels.APPOINTMENTS, appointmentToBeDeleted.getId())) {
+            AppointmentOverlapIndex.remove(appointmentToBeDeleted.getId());
+        }
     }
 
     /**
-     * The addAppointment method adds an appointment to the appointments table in the database
+     * The addAppointment method adds an appointment to the appointments table in the database. The appointment is
+     * checked against the other appointments of its customer in the same transaction as the insert. The appointment is
+     * returned with its generated ID and the audit times stamped by the database, which are the only columns selected
+     * again.
      *
      * @param appointment The appointment being added to the database
      * @return Returns the added appointment
+     * @throws IllegalStateException Throws IllegalStateException if the customer has an overlapping appointment
      */
     public static Appointment addAppointment(Appointment appointment) {
-        try (PreparedStatement statement = DBConnection.getConnection()
-                                                       .prepareStatement(ADD_APPOINTMENT_QUERY,
-                                                                         Statement.RETURN_GENERATED_KEYS)) {
-            setAppointmentStatement(statement, appointment, true);
-            statement.execute();
-            try (ResultSet rs = statement.getGeneratedKeys()) {
-                if (rs.next()) {
-                    int id = rs.getInt(1);
-                    return getAppointmentById(id);
+        Appointment added;
+        try {
+            added = Transaction.run(() -> {
+                requireNoOverlap(appointment, -1);
+                try (Connection connection = DBConnection.getConnection();
+                     PreparedStatement statement = connection.prepareStatement(ADD_APPOINTMENT_QUERY,
+                                                                             Statement.RETURN_GENERATED_KEYS)) {
+                    setAppointmentStatement(statement, appointment, true);
+                    QueryMetrics.measure(ADD_APPOINTMENT_QUERY, statement::executeUpdate, Integer::longValue);
+                    try (ResultSet rs = statement.getGeneratedKeys()) {
+                        if (!rs.next()) {
+                            return null;
+                        }
+                        appointment.setId(rs.getInt(1));
+                    }
                 }
-            }
+                readAuditTimes(DBModels.APPOINTMENTS, appointment);
+                return appointment;
+            });
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
-        return null;
+        if (added != null) {
+            AppointmentOverlapIndex.put(added);
+        }
+        return added;
     }
 
     /**
-     * The modifyAppointment method modifies an existing appointment in the appointments table of the database
+     * The modifyAppointment method modifies an existing appointment in the appointments table of the database. The
+     * appointment is checked against the other appointments of its customer in the same transaction as the update,
+     * and is returned with the audit times stamped by the database.
      *
      * @param appointment The appointment being modified in the database
+     * @return Returns the modified appointment
+     * @throws IllegalStateException Throws IllegalStateException if the customer has an overlapping appointment
      */
-    public static void modifyAppointment(Appointment appointment) {
-        try (PreparedStatement statement = DBConnection.getConnection()
-                                                       .prepareStatement(
-                                                               String.format(MODIFY_APPOINTMENT_QUERY,
-                                                                             ATTRIBUTES.get("id"),
-                                                                             appointment.getId()))) {
-            setAppointmentStatement(statement, appointment, false);
-            statement.execute();
+    public static Appointment modifyAppointment(Appointment appointment) {
+        try {
+            Transaction.run(() -> {
+                requireNoOverlap(appointment, appointment.getId());
+                try (Connection connection = DBConnection.getConnection();
+                     PreparedStatement statement = connection.prepareStatement(MODIFY_APPOINTMENT_QUERY)) {
+                    setAppointmentStatement(statement, appointment, false);
+                    QueryMetrics.measure(MODIFY_APPOINTMENT_QUERY, statement::executeUpdate, Integer::longValue);
+                }
+                readAuditTimes(DBModels.APPOINTMENTS, appointment);
+                return appointment;
+            });
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
+        AppointmentOverlapIndex.put(appointment);
+        return appointment;
     }
 
     /**
-     * The setAppointmentStatement method sets the PreparedStatement with the values of the appointment
+     * The requireNoOverlap method locks the customer of an appointment being saved, then asks the database if the
+     * customer has another appointment overlapping it. The lock is held until the saving transaction ends, so two
+     * clients saving appointments for the same customer cannot both pass the check.
+     *
+     * @param appointment           The appointment being saved
+     * @param excludedAppointmentId The ID of the appointment being modified, or -1 for a new appointment
+     * @throws SQLException          Throws SQLException if the query fails
+     * @throws IllegalStateException Throws IllegalStateException if the customer has an overlapping appointment
+     */
+    private static void requireNoOverlap(Appointment appointment, int excludedAppointmentId) throws SQLException {
+        CustomerQueryService.lockCustomer(appointment.getCustomerId());
+        if (getResult(customerOverlapQuery(appointment.getCustomerId(),
+                                           appointment.getStart(),
+                                           appointment.getEnd(),
+                                           excludedAppointmentId), ResultSet::next)) {
+            throw new IllegalStateException("The customer has an existing appointment during this time");
+        }
+    }
+
+    /**
+     * The setAppointmentStatement method sets the PreparedStatement with the values of the appointment, converting its
+     * start and end from the local timezone to the server timezone and binding them as date times like QueryBuilder
      *
      * @param statement    The statement being set
      * @param appointment  The appointment whose values are being set
      * @param setCreatedBy Boolean specifying if the created_by field is being set
      * @throws SQLException Throws SQLException in the event of an error
      */
-    private static void setAppointmentStatement(PreparedStatement statement,
+    static void setAppointmentStatement(PreparedStatement statement,
                                                 Appointment appointment,
                                                 boolean setCreatedBy) throws SQLException {
         statement.setInt(1, appointment.getContactId());
         statement.setInt(2, appointment.getCustomerId());
         statement.setString(3, appointment.getDescription());
-        statement.setString(4,
-                            appointment.getEnd()
-                                       .toString());
+        statement.setObject(4,
+                            TimeConversionService.convertToServerTime(appointment.getEnd())
+                                                 .toLocalDateTime());
         statement.setString(5, appointment.getLocation());
         statement.setString(6, appointment.getName());
-        statement.setString(7,
-                            appointment.getStart()
-                                       .toString());
+        statement.setObject(7,
+                            TimeConversionService.convertToServerTime(appointment.getStart())
+                                                 .toLocalDateTime());
         statement.setString(8, appointment.getType());
         statement.setInt(9, appointment.getUserId());
-        if (setCreatedBy) {
-            statement.setString(10, appointment.getCreatedBy());
+        int index = bindAuditColumns(statement, 10, appointment, setCreatedBy);
+        if (!setCreatedBy) {
+            statement.setInt(index, appointment.getId());
         }
-        statement.setString(setCreatedBy ? 11 : 10, appointment.getLastUpdatedBy());
     }
 
     /**
@@ -191,7 +239,7 @@ public abstract class AppointmentQueryService extends QueryService implements DB
     }
 
     /**
-     * The getAppointmentsInRange method returns a list of appointments in a specific range
+     * The getAppointmentsInRange method returns a list of appointments in a specific range of the local timezone
      *
      * @param startDate The start date of the range
      * @param startTime The start time of the range
@@ -201,47 +249,252 @@ public abstract class AppointmentQueryService extends QueryService implements DB
      */
     public static ObservableList<Appointment> getAppointmentsInRange(LocalDate startDate, LocalTime startTime,
                                                                      LocalDate endDate, LocalTime endTime) {
-        Timestamp start = Timestamp.valueOf(LocalDateTime.of(startDate, startTime));
-        Timestamp end = Timestamp.valueOf(LocalDateTime.of(endDate, endTime));
+        Timestamp start = TimeConversionService.convertToServerTime(
+                Timestamp.valueOf(LocalDateTime.of(startDate, startTime)));
+        Timestamp end = TimeConversionService.convertToServerTime(
+                Timestamp.valueOf(LocalDateTime.of(endDate, endTime)));
         return getAppointmentsInRange(start, end);
     }
 
     /**
-     * The getAppointmentsInRange method returns a list of appointments in a specific range
+     * The getAppointmentsInRange method returns a list of appointments in a specific range of the server timezone
      *
-     * @param start The start timestamp of the range
-     * @param end   The end timestamp of the range
+     * @param start The start timestamp of the range in the server timezone
+     * @param end   The end timestamp of the range in the server timezone
      * @return Returns a list of appointments in the range
      */
     public static ObservableList<Appointment> getAppointmentsInRange(Timestamp start, Timestamp end) {
-        String sqlQuery = SELECT_ALL +
-                WHERE +
-                String.format(
-                        TIME_RANGE,
-                        ATTRIBUTES.get("start"), start,
-                        ATTRIBUTES.get("start"), end);
-        return getAppointments(sqlQuery);
+        QueryBuilder query = QueryBuilder.selectAll(DBModels.APPOINTMENTS)
+                                         .where()
+                                         .inRange(ATTRIBUTES.get("start"), start, end);
+        return getAppointments(query);
+    }
+
+    /**
+     * The getPageOrder method returns the order of the pages returned by getAppointmentsAfter
+     *
+     * @return Returns a comparator sorting appointments by their start and then by their ID
+     */
+    public static Comparator<Appointment> getPageOrder() {
+        return Comparator.comparing(Appointment::getStart)
+                         .thenComparingInt(Appointment::getId);
     }
 
     /**
-     * The getMinMaxAppointmentRange returns a map with the earliest and latest appointment in the database
+     * The getAppointmentsAfter method returns the next page of appointments in order of their start, using the start
+     * and ID of the last appointment already loaded as a keyset cursor. Unlike an offset, the cursor lets the
+     * database seek straight to the page on an index of Start and Appointment_ID, however deep the page is.
      *
-     * @return Returns a map with the earliest and latest appointment
+     * @param after    The last appointment already loaded, or null for the first page
+     * @param pageSize The maximum number of appointments returned
+     * @return Returns the next page of appointments
+     */
+    public static ObservableList<Appointment> getAppointmentsAfter(Appointment after, int pageSize) {
+        QueryBuilder query = QueryBuilder.selectAll(DBModels.APPOINTMENTS);
+        if (after != null) {
+            query.where()
+                 .after(ATTRIBUTES.get("start"),
+                        ATTRIBUTES.get("id"),
+                        TimeConversionService.convertToServerTime(after.getStart()),
+                        after.getId());
+        }
+        query.orderBy(ATTRIBUTES.get("start"), ATTRIBUTES.get("id"))
+             .limit(pageSize);
+        return getAppointments(query);
+    }
+
+    /**
+     * The getAppointmentsByContact method passes every appointment of a contact to a consumer in order of their start
+     *
+     * @param contactId The ID of the contact
+     * @param consumer  The consumer receiving each appointment
+     * @return Returns the number of appointments of the contact
+     */
+    public static int getAppointmentsByContact(int contactId, Consumer<Appointment> consumer) {
+        return getAppointmentsByContact(contactId, null, null, consumer);
+    }
+
+    /**
+     * The getAppointmentsByContact method passes the appointments of a contact starting within a range to a consumer in
+     * order of their start. The filter is run by the database against the contact foreign key index, so the cost
+     * scales with the contact's appointments rather than with the whole table.
+     *
+     * @param contactId The ID of the contact
+     * @param start     The start timestamp of the range in server time, or null for no lower bound
+     * @param end       The end timestamp of the range in server time, or null for no upper bound
+     * @param consumer  The consumer receiving each appointment
+     * @return Returns the number of appointments of the contact in the range
+     */
+    public static int getAppointmentsByContact(int contactId, Timestamp start, Timestamp end,
+                                               Consumer<Appointment> consumer) {
+        QueryBuilder query = QueryBuilder.selectAll(DBModels.APPOINTMENTS)
+                                         .where()
+                                         .equalTo(ATTRIBUTES.get("contactId"), contactId);
+        if (start != null) {
+            query.and()
+                 .atLeast(ATTRIBUTES.get("start"), start);
+        }
+        if (end != null) {
+            query.and()
+                 .atMost(ATTRIBUTES.get("start"), end);
+        }
+        query.orderBy(ATTRIBUTES.get("start"), ATTRIBUTES.get("id"));
+        return QueryService.forEachEntity(DBModels.APPOINTMENTS, query, consumer);
+    }
+
+    /**
+     * The getModifiedAppointmentsByUser method returns a page of the appointments of a user that were changed after
+     * they were created, most recently updated first. The query filters and sorts on User_ID and Last_Update so it can
+     * be served from an index on those columns.
+     *
+     * @param userId The ID of the user
+     * @param limit  The maximum number of appointments returned
+     * @param offset The number of appointments skipped before the page
+     * @return Returns a page of the user's modified appointments
+     */
+    public static ObservableList<Appointment> getModifiedAppointmentsByUser(int userId, int limit, int offset) {
+        QueryBuilder query = QueryBuilder.selectAll(DBModels.APPOINTMENTS)
+                                         .where()
+                                         .equalTo(ATTRIBUTES.get("userId"), userId)
+                                         .and()
+                                         .columnsDiffer(ATTRIBUTES.get("createDate"), ATTRIBUTES.get("lastUpdate"))
+                                         .orderBy(ATTRIBUTES.get("lastUpdate") + " DESC",
+                                                  ATTRIBUTES.get("id") + " DESC")
+                                         .limit(limit, offset);
+        return getAppointments(query);
+    }
+
+    /**
+     * The getUpcomingAppointmentsByUser method returns the appointments of a user starting within a range. When a time
+     * of the last refresh is given, only the appointments updated since then, or starting after the end of the range
+     * already loaded, are returned, so the range can be kept up to date without reading it again in full. The query
+     * filters on User_ID along with Start and Last_Update so it can be served from the indexes on those columns.
+     *
+     * @param userId       The ID of the user
+     * @param from         The start of the range in server time
+     * @param until        The end of the range in server time
+     * @param loadedUntil  The end of the range already loaded in server time, or null to load the whole range
+     * @param updatedSince The time of the last refresh in server time, or null to load the whole range
+     * @return Returns the appointments of the user in the range
+     */
+    public static ObservableList<Appointment> getUpcomingAppointmentsByUser(int userId,
+                                                                           Timestamp from,
+                                                                           Timestamp until,
+                                                                           Timestamp loadedUntil,
+                                                                           Timestamp updatedSince) {
+        QueryBuilder query = QueryBuilder.selectAll(DBModels.APPOINTMENTS)
+                                         .where()
+                                         .equalTo(ATTRIBUTES.get("userId"), userId)
+                                         .and()
+                                         .atLeast(ATTRIBUTES.get("start"), from)
+                                         .and()
+                                         .earlierThan(ATTRIBUTES.get("start"), until);
+        if (loadedUntil != null && updatedSince != null) {
+            query.and()
+                 .updatedOrStartingSince(ATTRIBUTES.get("lastUpdate"), ATTRIBUTES.get("start"), updatedSince, loadedUntil);
+        }
+        return getAppointments(query.orderBy(ATTRIBUTES.get("start"), ATTRIBUTES.get("id")));
+    }
+
+    /**
+     * The getActiveWeeks method returns the first day of every week of a year that has at least one appointment. Weeks
+     * run from Sunday through Saturday, except for the first week of the year which starts on January 1st.
+     *
+     * @param year The year of the weeks
+     * @return Returns a sorted list of the first day of every week with appointments
+     */
+    public static List<LocalDate> getActiveWeeks(Year year) {
+        LocalDate firstDayOfYear = year.atDay(1);
+        TreeSet<LocalDate> weeks = new TreeSet<>();
+        for (LocalDate date : getActiveDates(year, DATE)) {
+            LocalDate weekStart = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+            weeks.add(weekStart.isBefore(firstDayOfYear) ? firstDayOfYear : weekStart);
+        }
+        return new ArrayList<>(weeks);
+    }
+
+    /**
+     * The getActiveMonths method returns the first day of every month of a year that has at least one appointment
+     *
+     * @param year The year of the months
+     * @return Returns a sorted list of the first day of every month with appointments
+     */
+    public static List<LocalDate> getActiveMonths(Year year) {
+        TreeSet<LocalDate> months = new TreeSet<>();
+        for (LocalDate date : getActiveDates(year, MONTH)) {
+            months.add(date.withDayOfMonth(1));
+        }
+        return new ArrayList<>(months);
+    }
+
+    /**
+     * The getActiveDates method returns the local dates of the earliest and latest appointment of every group of a
+     * year's appointments, so a caller can bucket the year by day, week or month without loading any appointments.
+     * Each group is bucketed by server time, so both ends of the group are converted to the local timezone and only
+     * dates falling in the year are kept.
+     *
+     * @param year          The year of the appointments
+     * @param groupTemplate The expression the appointments are grouped by, formatted with the start column
+     * @return Returns the local dates of the earliest and latest appointment of every group
+     */
+    private static List<LocalDate> getActiveDates(Year year, String groupTemplate) {
+        String startColumn = ATTRIBUTES.get("start");
+        Timestamp start = TimeConversionService.convertToServerTime(
+                Timestamp.valueOf(year.atDay(1)
+                                      .atStartOfDay()));
+        Timestamp end = TimeConversionService.convertToServerTime(
+                Timestamp.valueOf(year.atDay(year.length())
+                                      .atTime(23, 59, 59)));
+        QueryBuilder query = QueryBuilder.select(DBModels.APPOINTMENTS,
+                                                 String.format(MIN, startColumn),
+                                                 String.format(MAX, startColumn))
+                                         .where()
+                                         .inRange(startColumn, start, end)
+                                         .groupBy(String.format(groupTemplate, startColumn));
+        try {
+            return QueryService.getResult(query, resultSet -> {
+                List<LocalDate> dates = new ArrayList<>();
+                while (resultSet.next()) {
+                    for (int column = 1; column <= 2; column++) {
+                        LocalDate date = QueryService.getServerTimestamp(resultSet, column)
+                                                     .toLocalDateTime()
+                                                     .toLocalDate();
+                        if (date.getYear() == year.getValue()) {
+                            dates.add(date);
+                        }
+                    }
+                }
+                return dates;
+            });
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * The getMinMaxAppointmentRange returns a map with the earliest start and latest end of the appointments in the
+     * database, in the local timezone
+     *
+     * @return Returns a map with the earliest and latest appointment, or an empty map if there are no appointments
      */
     public static HashMap<String, Timestamp> getMinMaxAppointmentRange() {
-        String sqlQuery = String.format("SELECT MIN(%s) AS min, MAX(%s) AS max FROM %s;",
-                                        ATTRIBUTES.get("start"),
-                                        ATTRIBUTES.get("end"),
-                                        TABLE_NAME);
+        QueryBuilder query = QueryBuilder.select(DBModels.APPOINTMENTS,
+                                                 String.format(MIN, ATTRIBUTES.get("start")),
+                                                 String.format(MAX, ATTRIBUTES.get("end")));
         HashMap<String, Timestamp> minMaxAppointments = new HashMap<>();
-        try (PreparedStatement statement = DBConnection.getConnection()
-                                                       .prepareStatement(sqlQuery);
-             ResultSet resultSet = statement.executeQuery(sqlQuery)
-        ) {
-            if (resultSet.next()) {
-                minMaxAppointments.put("start", Timestamp.valueOf(resultSet.getString("min")));
-                minMaxAppointments.put("end", Timestamp.valueOf(resultSet.getString("max")));
-            }
+        try {
+            QueryService.getResult(query, resultSet -> {
+                if (resultSet.next()) {
+                    Timestamp earliest = getServerTimestamp(resultSet, 1);
+                    Timestamp latest = getServerTimestamp(resultSet, 2);
+                    if (earliest != null && latest != null) {
+                        minMaxAppointments.put("start", earliest);
+                        minMaxAppointments.put("end", latest);
+                    }
+                }
+                return minMaxAppointments;
+            });
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
@@ -250,7 +503,8 @@ public abstract class AppointmentQueryService extends QueryService implements DB
 
     /**
      * The appointmentExistsInRange method returns a boolean specifying if there is an existing appointment within a
-     * range
+     * range. The database is always asked, since the AppointmentOverlapIndex may not yet hold the appointments saved
+     * by other clients.
      *
      * @param startDate             The start date of the range
      * @param startTime             The start time of the range
@@ -266,20 +520,54 @@ public abstract class AppointmentQueryService extends QueryService implements DB
                                                               LocalTime endTime,
                                                               String modifiedAppointmentId,
                                                               String customerID) {
-        Timestamp startTimestamp = Timestamp.valueOf(LocalDateTime.of(startDate, startTime));
-        Timestamp endTimestamp = Timestamp.valueOf(LocalDateTime.of(endDate, endTime));
-        Timestamp convertedStart = TimeConversionService.convertToServerTime(startTimestamp);
-        Timestamp convertedEnd = TimeConversionService.convertToServerTime(endTimestamp);
-        String sqlQuery = String.format(SELECT_ALL, TABLE_NAME) +
-                WHERE + "(" +
-                String.format(NOT_IN_TIME_RANGE,
-                              ATTRIBUTES.get("start"), convertedEnd,
-                              ATTRIBUTES.get("end"), convertedStart) + ")";
-        if (!modifiedAppointmentId.isEmpty()) {
-            sqlQuery += (AND + String.format(NOT_EQUAL_INTEGER, ATTRIBUTES.get("id"), modifiedAppointmentId));
+        return queryCustomerOverlap(Integer.parseInt(customerID.trim()),
+                                    Timestamp.valueOf(LocalDateTime.of(startDate, startTime)),
+                                    Timestamp.valueOf(LocalDateTime.of(endDate, endTime)),
+                                    modifiedAppointmentId.isEmpty() ? -1 : Integer.parseInt(modifiedAppointmentId));
+    }
+
+    /**
+     * The queryCustomerOverlap method asks the database if a customer has an appointment overlapping a range. The
+     * customer is matched first so the customer foreign key index narrows the rows, and the database stops at the first
+     * overlapping appointment without returning any of its columns.
+     *
+     * @param customerId            The ID of the customer
+     * @param start                 The start of the range in local time
+     * @param end                   The end of the range in local time
+     * @param excludedAppointmentId The ID of an appointment ignored by the check, or -1 to check every appointment
+     * @return Returns a boolean specifying if the customer has an overlapping appointment
+     */
+    static boolean queryCustomerOverlap(int customerId, Timestamp start, Timestamp end, int excludedAppointmentId) {
+        return queryHasMatches(customerOverlapQuery(customerId, start, end, excludedAppointmentId));
+    }
+
+    /**
+     * The customerOverlapQuery method builds the query selecting the first appointment of a customer overlapping a
+     * range
+     *
+     * @param customerId            The ID of the customer
+     * @param start                 The start of the range in local time
+     * @param end                   The end of the range in local time
+     * @param excludedAppointmentId The ID of an appointment ignored by the check, or -1 to check every appointment
+     * @return Returns the query
+     */
+    private static QueryBuilder customerOverlapQuery(int customerId,
+                                                     Timestamp start,
+                                                     Timestamp end,
+                                                     int excludedAppointmentId) {
+        QueryBuilder query = QueryBuilder.selectOne(DBModels.APPOINTMENTS)
+                                         .where()
+                                         .equalTo(ATTRIBUTES.get("customerId"), customerId)
+                                         .and()
+                                         .overlaps(ATTRIBUTES.get("start"),
+                                                   ATTRIBUTES.get("end"),
+                                                   TimeConversionService.convertToServerTime(start),
+                                                   TimeConversionService.convertToServerTime(end));
+        if (excludedAppointmentId != -1) {
+            query.and()
+                 .notEqualTo(ATTRIBUTES.get("id"), excludedAppointmentId);
         }
-        sqlQuery += (AND + String.format(EQUALS_INTEGER, ATTRIBUTES.get("customerId"), Integer.parseInt(customerID)));
-        return queryHasMatches(sqlQuery);
+        return query.limit(1);
     }
 
     /**
@@ -288,23 +576,37 @@ public abstract class AppointmentQueryService extends QueryService implements DB
      * @return Returns a string of the total number of customer appointments by type and month
      */
     public static String customerAppointmentReport() {
-        String sqlQuery = "SELECT MONTHNAME(ANY_VALUE(start)) as Month," +
-                " YEAR(ANY_VALUE(start)) as Year," +
-                " Type, COUNT(Customer_ID) AS Total " +
-                " FROM appointments GROUP BY YEAR(start), MONTH(start)," +
-                " Type ORDER BY Total DESC, year(start), month(start);";
-        try (ResultSet rs = QueryService.getResultsSet(sqlQuery)) {
-            StringBuilder report = new StringBuilder();
-            while (rs.next()) {
-                String month = rs.getString("Month");
-                String year = rs.getString("Year");
-                String type = rs.getString("Type");
-                int total = rs.getInt("Total");
-                String output = String.format("%-4s %-11s %-26s %4d", year, month, type, total);
-                report.append(output)
-                      .append("\n");
-            }
-            return report.toString();
+        String start = ATTRIBUTES.get("start");
+        String startYear = String.format(YEAR, start);
+        String startMonth = String.format(MONTH, start);
+        QueryBuilder query = QueryBuilder.select(DBModels.APPOINTMENTS,
+                                                 String.format(ALIAS,
+                                                               String.format(MONTH_NAME,
+                                                                             String.format(ANY_VALUE, start)),
+                                                               "Month"),
+                                                 String.format(ALIAS,
+                                                               String.format(YEAR, String.format(ANY_VALUE, start)),
+                                                               "Year"),
+                                                 ATTRIBUTES.get("type"),
+                                                 String.format(ALIAS,
+                                                               String.format(COUNT, ATTRIBUTES.get("customerId")),
+                                                               "Total"))
+                                         .groupBy(startYear, startMonth, ATTRIBUTES.get("type"))
+                                         .orderBy("Total DESC", startYear, startMonth);
+        try {
+            return QueryService.getResult(query, rs -> {
+                StringBuilder report = new StringBuilder();
+                while (rs.next()) {
+                    String month = rs.getString("Month");
+                    String year = rs.getString("Year");
+                    String type = rs.getString("Type");
+                    int total = rs.getInt("Total");
+                    String output = String.format("%-4s %-11s %-26s %4d", year, month, type, total);
+                    report.append(output)
+                          .append("\n");
+                }
+                return report.toString();
+            });
         } catch (SQLException e) {
             e.printStackTrace();
         }
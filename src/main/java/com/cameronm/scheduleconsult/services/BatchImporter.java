@@ -0,0 +1,194 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.models.NamedEntity;
+import com.cameronm.scheduleconsult.settings.DatabaseConfig;
+import com.cameronm.scheduleconsult.utilities.CsvReader;
+import com.cameronm.scheduleconsult.utilities.InputValidator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The BatchImporter class imports the rows of a comma separated file into a table. Each row is read into an entity,
+ * and the valid entities are inserted in batches of IMPORT_BATCH_SIZE, each committed in its own transaction with the
+ * generated IDs read back in bulk. Rows that are invalid, or whose batch could not be saved, are rejected with their
+ * line number instead of stopping the import. The import service of each table only supplies how a row is read and how
+ * an entity is bound. A batch importer imports a single file.
+ *
+ * @param <T> The type of entity imported
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+final class BatchImporter<T extends NamedEntity> implements DatabaseConfig {
+
+    /**
+     * The parameterized query inserting one entity
+     */
+    private final String insertQuery;
+
+    /**
+     * The binder setting the values of an entity on the insert query
+     */
+    private final StatementBinder<T> binder;
+
+    /**
+     * The consumer receiving each batch once it has been saved
+     */
+    private final Consumer<List<T>> onInserted;
+
+    /**
+     * The consumer receiving each entity whose batch could not be saved
+     */
+    private final Consumer<T> onRejected;
+
+    /**
+     * The entities read but not yet inserted
+     */
+    private final List<T> batch = new ArrayList<>();
+
+    /**
+     * The line of the file of each entity in the batch
+     */
+    private final List<Integer> batchLines = new ArrayList<>();
+
+    /**
+     * The IDs generated for the entities inserted so far
+     */
+    private final List<Integer> importedIds = new ArrayList<>();
+
+    /**
+     * The rows rejected so far
+     */
+    private final List<ImportResult.Reject> rejects = new ArrayList<>();
+
+    /**
+     * The constructor for the BatchImporter class, for entities that need nothing done once their batch is saved or
+     * rejected
+     *
+     * @param insertQuery The parameterized query inserting one entity
+     * @param binder      The binder setting the values of an entity on the insert query
+     */
+    BatchImporter(String insertQuery, StatementBinder<T> binder) {
+        this(insertQuery, binder, batch -> {
+        }, entity -> {
+        });
+    }
+
+    /**
+     * The constructor for the BatchImporter class
+     *
+     * @param insertQuery The parameterized query inserting one entity
+     * @param binder      The binder setting the values of an entity on the insert query
+     * @param onInserted  The consumer receiving each batch once it has been saved
+     * @param onRejected  The consumer receiving each entity whose batch could not be saved
+     */
+    BatchImporter(String insertQuery,
+                  StatementBinder<T> binder,
+                  Consumer<List<T>> onInserted,
+                  Consumer<T> onRejected) {
+        this.insertQuery = insertQuery;
+        this.binder = binder;
+        this.onInserted = onInserted;
+        this.onRejected = onRejected;
+    }
+
+    /**
+     * The importFile method reads every row of a file into an entity and inserts the valid ones
+     *
+     * @param file      The file being imported
+     * @param rowReader The reader converting a row of the file into an entity
+     * @param columns   The header names of the columns the file must have
+     * @return Returns the IDs of the entities imported and the rows rejected
+     * @throws IOException Throws IOException if the file could not be read or is missing a column
+     */
+    ImportResult importFile(Path file, RowReader<T> rowReader, String... columns) throws IOException {
+        try (CsvReader reader = new CsvReader(file)) {
+            reader.requireColumns(columns);
+            List<String> row;
+            while ((row = reader.readRow()) != null) {
+                try {
+                    batch.add(rowReader.read(reader, row));
+                    batchLines.add(reader.getLineNumber());
+                } catch (IllegalArgumentException | IllegalStateException | DateTimeException exception) {
+                    rejects.add(new ImportResult.Reject(reader.getLineNumber(), exception.getMessage()));
+                }
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    insertBatch();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertBatch();
+        }
+        rejects.sort(Comparator.comparingInt(ImportResult.Reject::lineNumber));
+        return new ImportResult(List.copyOf(importedIds), List.copyOf(rejects));
+    }
+
+    /**
+     * The insertBatch method inserts the batch in a single transaction and clears it. If the batch cannot be saved,
+     * every row in it is rejected.
+     */
+    private void insertBatch() {
+        try {
+            QueryService.insertBatch(insertQuery, batch, binder);
+            for (T entity : batch) {
+                importedIds.add(entity.getId());
+            }
+            onInserted.accept(batch);
+        } catch (SQLException sqlException) {
+            sqlException.printStackTrace();
+            for (int i = 0; i < batch.size(); i++) {
+                onRejected.accept(batch.get(i));
+                rejects.add(new ImportResult.Reject(batchLines.get(i),
+                                                    "The batch could not be saved: " + sqlException.getMessage()));
+            }
+        }
+        batch.clear();
+        batchLines.clear();
+    }
+
+    /**
+     * The readText method returns a text field of a row, checking it is present and fits its column
+     *
+     * @param reader    The reader of the file
+     * @param row       The fields of the row
+     * @param column    The header name of the column
+     * @param maxLength The maximum length of the field
+     * @return Returns the text of the field
+     * @throws IllegalArgumentException Throws IllegalArgumentException if the field is missing or too long
+     */
+    static String readText(CsvReader reader, List<String> row, String column, int maxLength) {
+        String text = reader.get(row, column);
+        if (InputValidator.checkValidInput(column, text, maxLength, false) != null) {
+            throw new IllegalArgumentException("Invalid " + column);
+        }
+        return text;
+    }
+
+    /**
+     * The RowReader interface converts a row of an imported file into an entity, checking each of its fields
+     *
+     * @param <T> The type of entity read
+     */
+    @FunctionalInterface
+    interface RowReader<T> {
+
+        /**
+         * The read method converts a row into an entity
+         *
+         * @param reader The reader of the file
+         * @param row    The fields of the row
+         * @return Returns the entity of the row
+         * @throws IllegalArgumentException Throws IllegalArgumentException if a field is invalid
+         * @throws IllegalStateException    Throws IllegalStateException if the entity conflicts with another
+         * @throws DateTimeException        Throws DateTimeException if a time is not allowed
+         */
+        T read(CsvReader reader, List<String> row);
+    }
+}
@@ -0,0 +1,63 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.DAO.DBModels;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The ColumnIndexes class resolves the column index of each attribute of a model once per result set. The row mapper of
+ * the result set reads the indexes it needs from it once, so that rows are read by int indexes instead of looking up
+ * every column by name.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public final class ColumnIndexes {
+
+    /**
+     * The column index of each attribute found in the result set
+     */
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    /**
+     * The constructor for the ColumnIndexes class. When a column name appears more than once, such as in a join, the
+     * first column is used.
+     *
+     * @param dbModel  The model whose attributes are resolved
+     * @param metaData The metadata of the result set
+     * @throws SQLException Throws SQLException if the metadata is invalid
+     */
+    public ColumnIndexes(DBModels dbModel, ResultSetMetaData metaData) throws SQLException {
+        Map<String, Integer> columnIndexes = new HashMap<>();
+        for (int i = metaData.getColumnCount(); i >= 1; i--) {
+            columnIndexes.put(metaData.getColumnLabel(i)
+                                      .toLowerCase(), i);
+        }
+        for (Map.Entry<String, String> attribute : dbModel.getAttributes()
+                                                          .entrySet()) {
+            Integer index = columnIndexes.get(attribute.getValue()
+                                                       .toLowerCase());
+            if (index != null) {
+                indexes.put(attribute.getKey(), index);
+            }
+        }
+    }
+
+    /**
+     * The of method returns the column index of an attribute
+     *
+     * @param attribute The name of the attribute in the model
+     * @return Returns the column index of the attribute
+     * @throws SQLException Throws SQLException if the attribute is not in the result set
+     */
+    public int of(String attribute) throws SQLException {
+        Integer index = indexes.get(attribute);
+        if (index == null) {
+            throw new SQLException("Column for attribute '" + attribute + "' not found in result set");
+        }
+        return index;
+    }
+}
@@ -1,13 +1,13 @@
 package com.cameronm.scheduleconsult.services;
 
 import com.cameronm.scheduleconsult.DAO.DBModels;
-import com.cameronm.scheduleconsult.DAO.DBQueries;
+import com.cameronm.scheduleconsult.DAO.QueryBuilder;
 import com.cameronm.scheduleconsult.models.Contact;
 import javafx.collections.ObservableList;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * The ContactQueryService class is responsible for converting entries in the contacts table of the database into
@@ -24,40 +24,58 @@ public abstract class ContactQueryService extends QueryService {
      * @return Returns an ObservableList of all contacts
      */
     public static ObservableList<Contact> getAllContacts() {
-        return getContacts(DBQueries.SELECT_ALL);
+        return ReferenceDataCache.getAll(DBModels.CONTACTS);
     }
 
     /**
      * The getContacts method returns an ObservableList of specific contacts in the database
      *
-     * @param sqlQuery The query specifying the contacts to return
+     * @param query The query specifying the contacts to return
      * @return Returns an ObservableList of contacts specified by the query
      */
-    public static ObservableList<Contact> getContacts(String sqlQuery) {
-        return QueryService.getEntities(DBModels.CONTACTS, sqlQuery);
+    public static ObservableList<Contact> getContacts(QueryBuilder query) {
+        return QueryService.getEntities(DBModels.CONTACTS, query);
     }
 
     /**
-     * The getContact method takes a results set and previously retrieved common attributes and retrieves all the rest
-     * of the remaining contact attributes and returns the contact
+     * The contactMapper method returns a row mapper converting the rows of a result set from the contacts table into
+     * contacts. The index of each column is resolved once here, so every row is read by its int indexes alone.
      *
-     * @param results          The results set passed in from an entry in the contacts table
-     * @param entityAttributes Common attribute types that are shared by all named entities
-     * @return Returns a contact
-     * @throws SQLException Throws an SQLException of the ResultSet is invalid
+     * @param columns The column index of each contact attribute in the result set
+     * @return Returns the row mapper of the result set
+     * @throws SQLException Throws SQLException if an attribute is not in the result set
      */
-    static Contact getContact(ResultSet results, HashMap<String, String> entityAttributes) throws SQLException {
-        entityAttributes.put("email",
-                             results.getString(DBModels.CONTACTS.getAttributes()
-                                                                .get("email")));
-        String email = entityAttributes.get("email");
-        return new Contact(
-                Integer.parseInt(entityAttributes.get("id")),
-                entityAttributes.get("name"),
-                email
+    static RowMapper<Contact> contactMapper(ColumnIndexes columns) throws SQLException {
+        int id = columns.of("id");
+        int name = columns.of("name");
+        int email = columns.of("email");
+        return results -> new Contact(
+                results.getInt(id),
+                results.getString(name),
+                results.getString(email)
         );
     }
 
+    /**
+     * The getContactById method returns a contact specified by the contact ID passed in
+     *
+     * @param contactId The ID of the contact
+     * @return Returns the contact, or null if there is no contact with the ID
+     */
+    public static Contact getContactById(int contactId) {
+        return ReferenceDataCache.getById(DBModels.CONTACTS, contactId);
+    }
+
+    /**
+     * The getContactNamesById method returns the name of every contact keyed by the contact ID, so that contact names
+     * can be displayed for a whole list of appointments from the reference data cache
+     *
+     * @return Returns a map where the key is the contact ID and the value is the contact name
+     */
+    public static Map<Integer, String> getContactNamesById() {
+        return ReferenceDataCache.getNamesById(DBModels.CONTACTS);
+    }
+
     /**
      * The getMatchFromDatabase method retrieves a matching entry from a contact if the appointment's contact ID matches
      * the contact's primary ID
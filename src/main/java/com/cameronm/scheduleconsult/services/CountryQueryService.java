@@ -1,12 +1,12 @@
 package com.cameronm.scheduleconsult.services;
 
 import com.cameronm.scheduleconsult.DAO.DBModels;
-import com.cameronm.scheduleconsult.DAO.DBQueries;
+import com.cameronm.scheduleconsult.DAO.QueryBuilder;
 import com.cameronm.scheduleconsult.models.Country;
 import javafx.collections.ObservableList;
 
-import java.sql.Timestamp;
-import java.util.HashMap;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 
 /**
  * The CountryQueryService class is responsible for converting entries
@@ -23,33 +23,41 @@ public abstract class CountryQueryService extends QueryService {
      * @return Returns an ObservableList of all contacts
      */
     public static ObservableList<Country> getAllCountries() {
-        return getCountries(DBQueries.SELECT_ALL);
+        return ReferenceDataCache.getAll(DBModels.COUNTRIES);
     }
 
     /**
      * The getCountries method returns an ObservableList of specific countries in the database
      *
-     * @param sqlQuery The query specifying the countries to return
+     * @param query The query specifying the countries to return
      * @return Returns an ObservableList of countries specified by the query
      */
-    public static ObservableList<Country> getCountries(String sqlQuery) {
-        return QueryService.getEntities(DBModels.COUNTRIES, sqlQuery);
+    public static ObservableList<Country> getCountries(QueryBuilder query) {
+        return QueryService.getEntities(DBModels.COUNTRIES, query);
     }
 
     /**
-     * The getCountry method takes previously retrieved common attributes and returns the country
+     * The countryMapper method returns a row mapper converting the rows of a result set from the countries table into
+     * countries. The index of each column is resolved once here, so every row is read by its int indexes alone.
      *
-     * @param entityAttributes Common attribute types that are shared by all audited entities
-     * @return Returns a country
+     * @param columns The column index of each country attribute in the result set
+     * @return Returns the row mapper of the result set
+     * @throws SQLException Throws SQLException if an attribute is not in the result set
      */
-    static Country getCountry(HashMap<String, String> entityAttributes) {
-        return new Country(
-                Integer.parseInt(entityAttributes.get("id")),
-                entityAttributes.get("name"),
-                TimeConversionService.convertFromServerTime(Timestamp.valueOf(entityAttributes.get("createDate"))),
-                entityAttributes.get("createdBy"),
-                TimeConversionService.convertFromServerTime(Timestamp.valueOf(entityAttributes.get("lastUpdate"))),
-                entityAttributes.get("lastUpdatedBy")
+    static RowMapper<Country> countryMapper(ColumnIndexes columns) throws SQLException {
+        int id = columns.of("id");
+        int name = columns.of("name");
+        int createDate = columns.of("createDate");
+        int createdBy = columns.of("createdBy");
+        int lastUpdate = columns.of("lastUpdate");
+        int lastUpdatedBy = columns.of("lastUpdatedBy");
+        return results -> new Country(
+                results.getInt(id),
+                results.getString(name),
+                getServerTimestamp(results, createDate),
+                results.getString(createdBy),
+                getServerTimestamp(results, lastUpdate),
+                results.getString(lastUpdatedBy)
         );
     }
 
@@ -60,6 +68,6 @@ public abstract class CountryQueryService extends QueryService {
      * @return returns a country entity
      */
     public static Country getCountryById(int countryId) {
-        return QueryService.getEntityById(DBModels.COUNTRIES, countryId);
+        return ReferenceDataCache.getById(DBModels.COUNTRIES, countryId);
     }
 }
@@ -0,0 +1,156 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.DAO.DBModels;
+import com.cameronm.scheduleconsult.models.Country;
+import com.cameronm.scheduleconsult.models.Customer;
+import com.cameronm.scheduleconsult.models.FirstLevelDivision;
+import com.cameronm.scheduleconsult.settings.DatabaseConfig;
+import com.cameronm.scheduleconsult.utilities.CsvReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * The CustomerImportService class imports customers from a comma separated file. The country and division of each
+ * customer are given by name and resolved to a division ID from the cached reference data, and the valid rows are
+ * inserted in batches by a BatchImporter, which reports back the rows that are invalid or whose batch could not be
+ * saved instead of stopping the import.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public abstract class CustomerImportService implements DatabaseConfig {
+
+    /**
+     * The column names of the customers table
+     */
+    private static final Map<String, String> ATTRIBUTES = DBModels.CUSTOMERS.getAttributes();
+
+    /**
+     * The header name of the division column
+     */
+    private static final String DIVISION_COLUMN = DBModels.DIVISIONS.getAttributes()
+                                                                    .get("name");
+
+    /**
+     * The header name of the country column
+     */
+    private static final String COUNTRY_COLUMN = DBModels.COUNTRIES.getAttributes()
+                                                                   .get("name");
+
+    /**
+     * The importCustomers method imports the customers of a comma separated file. The file must have a header row
+     * naming the Customer_Name, Address, Postal_Code, Phone and Division columns. A Country column is optional, and is
+     * only needed to tell apart divisions with the same name in different countries.
+     *
+     * @param file       The file being imported
+     * @param importedBy The name of the user importing the file
+     * @return Returns the IDs of the customers imported and the rows rejected
+     * @throws IOException Throws IOException if the file could not be read or is missing a column
+     */
+    public static ImportResult importCustomers(Path file, String importedBy) throws IOException {
+        DivisionLookup divisions = DivisionLookup.load();
+        BatchImporter<Customer> importer = new BatchImporter<>(
+                CustomerQueryService.ADD_CUSTOMERS_QUERY,
+                (statement, customer) -> CustomerQueryService.setCustomerStatement(statement, customer, true));
+        return importer.importFile(file,
+                                   (reader, row) -> readCustomer(reader, row, importedBy, divisions),
+                                   ATTRIBUTES.get("name"),
+                                   ATTRIBUTES.get("address"),
+                                   ATTRIBUTES.get("postalCode"),
+                                   ATTRIBUTES.get("phone"),
+                                   DIVISION_COLUMN);
+    }
+
+    /**
+     * The readCustomer method converts a row of the file into a customer, checking each of its fields
+     *
+     * @param reader     The reader of the file
+     * @param row        The fields of the row
+     * @param importedBy The name of the user importing the file
+     * @param divisions  The lookup of the divisions by name
+     * @return Returns the customer of the row
+     * @throws IllegalArgumentException Throws IllegalArgumentException if a field is invalid
+     */
+    private static Customer readCustomer(CsvReader reader,
+                                         List<String> row,
+                                         String importedBy,
+                                         DivisionLookup divisions) {
+        String name = BatchImporter.readText(reader, row, ATTRIBUTES.get("name"), 50);
+        String address = BatchImporter.readText(reader, row, ATTRIBUTES.get("address"), 100);
+        String postalCode = BatchImporter.readText(reader, row, ATTRIBUTES.get("postalCode"), 50);
+        String phone = BatchImporter.readText(reader, row, ATTRIBUTES.get("phone"), 50);
+        FirstLevelDivision division = divisions.find(reader.get(row, DIVISION_COLUMN),
+                                                     reader.get(row, COUNTRY_COLUMN));
+        return new Customer(-1,
+                            name,
+                            null,
+                            importedBy,
+                            null,
+                            importedBy,
+                            address,
+                            postalCode,
+                            phone,
+                            division.getId());
+    }
+
+    /**
+     * The DivisionLookup record finds divisions by their name and the name of their country, ignoring case
+     *
+     * @param countriesByName The countries by their name in lower case
+     * @param divisionsByName The divisions with each name in lower case
+     */
+    private record DivisionLookup(Map<String, Country> countriesByName,
+                                  Map<String, List<FirstLevelDivision>> divisionsByName) {
+
+        /**
+         * The load method builds the lookup from the cached countries and divisions
+         *
+         * @return Returns the lookup
+         */
+        private static DivisionLookup load() {
+            Map<String, Country> countriesByName = new HashMap<>();
+            for (Country country : CountryQueryService.getAllCountries()) {
+                countriesByName.put(country.getName()
+                                           .toLowerCase(), country);
+            }
+            Map<String, List<FirstLevelDivision>> divisionsByName = new HashMap<>();
+            for (FirstLevelDivision division : FirstLevelDivisionQueryService.getAllDivisions()) {
+                divisionsByName.computeIfAbsent(division.getName()
+                                                        .toLowerCase(), name -> new ArrayList<>())
+                               .add(division);
+            }
+            return new DivisionLookup(countriesByName, divisionsByName);
+        }
+
+        /**
+         * The find method returns the division with a name, in a country if one is named
+         *
+         * @param divisionName The name of the division
+         * @param countryName  The name of the country of the division, or an empty string for any country
+         * @return Returns the division
+         * @throws IllegalArgumentException Throws IllegalArgumentException if no single division matches
+         */
+        private FirstLevelDivision find(String divisionName, String countryName) {
+            List<FirstLevelDivision> matches = divisionsByName.getOrDefault(divisionName.toLowerCase(), List.of());
+            if (!countryName.isEmpty()) {
+                Country country = countriesByName.get(countryName.toLowerCase());
+                if (country == null) {
+                    throw new IllegalArgumentException("No country named " + countryName + " exists in the database");
+                }
+                matches = matches.stream()
+                                 .filter(division -> division.getCountryId() == country.getId())
+                                 .toList();
+            }
+            if (matches.isEmpty()) {
+                throw new IllegalArgumentException("No division named " + divisionName + " exists in the database");
+            }
+            if (matches.size() > 1) {
+                throw new IllegalArgumentException("More than one division is named " + divisionName +
+                                                           ", so its Country must be given");
+            }
+            return matches.get(0);
+        }
+    }
+}
@@ -2,13 +2,17 @@ package com.cameronm.scheduleconsult.services;
 
 import com.cameronm.scheduleconsult.DAO.DBConnection;
 import com.cameronm.scheduleconsult.DAO.DBModels;
-import com.cameronm.scheduleconsult.DAO.DBQueries;
+import com.cameronm.scheduleconsult.DAO.QueryBuilder;
+import com.cameronm.scheduleconsult.DAO.Transaction;
 import com.cameronm.scheduleconsult.models.Customer;
 import javafx.collections.ObservableList;
 
 import java.sql.*;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * The CustomerQueryService class is responsible for converting entries in the customers table of the database into
@@ -22,6 +26,10 @@ public abstract class CustomerQueryService extends QueryService {
     public static final String MODIFY_CUSTOMERS_QUERY = updateValuesQueriesSelector(DBModels.CUSTOMERS);
     public static final String ADD_CUSTOMERS_QUERY = insertValuesQueriesSelector(DBModels.CUSTOMERS);
     public static final Map<String, String> ATTRIBUTES = DBModels.CUSTOMERS.getAttributes();
+    private static final String APPOINTMENT_ID = DBModels.APPOINTMENTS.getAttributes()
+                                                                      .get("id");
+    private static final String APPOINTMENT_CUSTOMER_ID = DBModels.APPOINTMENTS.getAttributes()
+                                                                               .get("customerId");
 
     /**
      * The getAllCustomers method returns an ObservableList of all customers in the database
@@ -29,56 +37,155 @@ public abstract class CustomerQueryService extends QueryService {
      * @return Returns an ObservableList of all customers
      */
     public static ObservableList<Customer> getAllCustomers() {
-        return getCustomers(DBQueries.SELECT_ALL);
+        return getCustomers(QueryBuilder.selectAll(DBModels.CUSTOMERS));
+    }
+
+    /**
+     * The getCustomersAfter method returns the next page of customers matching a search, sorted by an attribute. The
+     * page is found with a keyset cursor made of the sort value and ID of the last customer already loaded, so the
+     * database can seek to it on an index instead of skipping every earlier row.
+     *
+     * @param after         The last customer already loaded, or null for the first page
+     * @param pageSize      The maximum number of customers returned
+     * @param search        The prefix of the name, phone number or postal code searched for, or null for every
+     *                      customer
+     * @param sortAttribute The attribute the customers are sorted by
+     * @param ascending     Boolean specifying if the customers are sorted in ascending order
+     * @return Returns the next page of customers
+     */
+    public static ObservableList<Customer> getCustomersAfter(Customer after, int pageSize, String search,
+                                                             String sortAttribute, boolean ascending) {
+        String sortColumn = ATTRIBUTES.get(sortAttribute);
+        String idColumn = ATTRIBUTES.get("id");
+        QueryBuilder query = QueryBuilder.selectAll(DBModels.CUSTOMERS);
+        boolean hasCondition = false;
+        if (search != null && !search.isBlank()) {
+            query.where()
+                 .startsWith(search.trim(),
+                             ATTRIBUTES.get("name"),
+                             ATTRIBUTES.get("phone"),
+                             ATTRIBUTES.get("postalCode"));
+            hasCondition = true;
+        }
+        if (after != null) {
+            if (hasCondition) {
+                query.and();
+            } else {
+                query.where();
+            }
+            Object sortValue = getSortValue(after, sortAttribute);
+            if (ascending) {
+                query.after(sortColumn, idColumn, sortValue, after.getId());
+            } else {
+                query.before(sortColumn, idColumn, sortValue, after.getId());
+            }
+        }
+        String direction = ascending ? " ASC" : " DESC";
+        if (sortColumn.equals(idColumn)) {
+            query.orderBy(idColumn + direction);
+        } else {
+            query.orderBy(sortColumn + direction, idColumn + direction);
+        }
+        return getCustomers(query.limit(pageSize));
+    }
+
+    /**
+     * The getPageOrder method returns the order of the pages returned by getCustomersAfter, comparing text without
+     * regard to case like the collation of the database
+     *
+     * @param sortAttribute The attribute the customers are sorted by
+     * @param ascending     Boolean specifying if the customers are sorted in ascending order
+     * @return Returns a comparator sorting customers in page order
+     */
+    public static Comparator<Customer> getPageOrder(String sortAttribute, boolean ascending) {
+        Comparator<Customer> order = switch (sortAttribute) {
+            case "id" -> Comparator.comparingInt(Customer::getId);
+            case "name" -> Comparator.comparing(Customer::getName, String.CASE_INSENSITIVE_ORDER);
+            case "address" -> Comparator.comparing(Customer::getAddress, String.CASE_INSENSITIVE_ORDER);
+            case "postalCode" -> Comparator.comparing(Customer::getPostalCode, String.CASE_INSENSITIVE_ORDER);
+            case "phone" -> Comparator.comparing(Customer::getPhone, String.CASE_INSENSITIVE_ORDER);
+            default -> throw new IllegalArgumentException("Customers cannot be sorted by " + sortAttribute);
+        };
+        order = order.thenComparingInt(Customer::getId);
+        return ascending ? order : order.reversed();
+    }
+
+    /**
+     * The matchesSearch method returns a boolean specifying if a customer is matched by the search of getCustomersAfter
+     *
+     * @param customer The customer
+     * @param search   The prefix of the name, phone number or postal code searched for, or null for every customer
+     * @return Returns a boolean specifying if the customer matches the search
+     */
+    public static boolean matchesSearch(Customer customer, String search) {
+        if (search == null || search.isBlank()) {
+            return true;
+        }
+        String prefix = search.trim()
+                              .toLowerCase();
+        return Stream.of(customer.getName(), customer.getPhone(), customer.getPostalCode())
+                     .anyMatch(value -> value != null && value.toLowerCase()
+                                                              .startsWith(prefix));
+    }
+
+    /**
+     * The getSortValue method returns the value of the attribute a customer is sorted by
+     *
+     * @param customer      The customer
+     * @param sortAttribute The attribute the customers are sorted by
+     * @return Returns the value of the attribute
+     */
+    private static Object getSortValue(Customer customer, String sortAttribute) {
+        return switch (sortAttribute) {
+            case "id" -> customer.getId();
+            case "name" -> customer.getName();
+            case "address" -> customer.getAddress();
+            case "postalCode" -> customer.getPostalCode();
+            case "phone" -> customer.getPhone();
+            default -> throw new IllegalArgumentException("Customers cannot be sorted by " + sortAttribute);
+        };
     }
 
     /**
      * The getCustomers method returns an ObservableList of specific customers in the database
      *
-     * @param sqlQuery The query specifying the customers to return
+     * @param query The query specifying the customers to return
      * @return Returns an ObservableList of customers specified by the query
      */
-    public static ObservableList<Customer> getCustomers(String sqlQuery) {
-        return QueryService.getEntities(DBModels.CUSTOMERS, sqlQuery);
+    public static ObservableList<Customer> getCustomers(QueryBuilder query) {
+        return QueryService.getEntities(DBModels.CUSTOMERS, query);
     }
 
     /**
-     * The getCustomer method takes a results set and previously retrieved common attributes and retrieves all the rest
-     * of the remaining customer attributes and returns the customer
+     * The customerMapper method returns a row mapper converting the rows of a result set from the customers table into
+     * customers. The index of each column is resolved once here, so every row is read by its int indexes alone.
      *
-     * @param results          The results set passed in from an entry in the customers table
-     * @param entityAttributes Common attribute types that are shared by all audited entities
-     * @return Returns a customer
-     * @throws SQLException Throws an SQLException of the ResultSet is invalid
+     * @param columns The column index of each customer attribute in the result set
+     * @return Returns the row mapper of the result set
+     * @throws SQLException Throws SQLException if an attribute is not in the result set
      */
-    static Customer getCustomer(ResultSet results, HashMap<String, String> entityAttributes) throws SQLException {
-        entityAttributes.put("address",
-                             results.getString(DBModels.CUSTOMERS.getAttributes()
-                                                                 .get("address")));
-        entityAttributes.put("postalCode",
-                             results.getString(DBModels.CUSTOMERS.getAttributes()
-                                                                 .get("postalCode")));
-        entityAttributes.put("phone",
-                             results.getString(DBModels.CUSTOMERS.getAttributes()
-                                                                 .get("phone")));
-        entityAttributes.put("divisionId",
-                             results.getString(DBModels.CUSTOMERS.getAttributes()
-                                                                 .get("divisionId")));
-        String address = entityAttributes.get("address");
-        String postalCode = entityAttributes.get("postalCode");
-        String phone = entityAttributes.get("phone");
-        int divisionId = Integer.parseInt(entityAttributes.get("divisionId"));
-        return new Customer(
-                Integer.parseInt(entityAttributes.get("id")),
-                entityAttributes.get("name"),
-                TimeConversionService.convertFromServerTime(Timestamp.valueOf(entityAttributes.get("createDate"))),
-                entityAttributes.get("createdBy"),
-                TimeConversionService.convertFromServerTime(Timestamp.valueOf(entityAttributes.get("lastUpdate"))),
-                entityAttributes.get("lastUpdatedBy"),
-                address,
-                postalCode,
-                phone,
-                divisionId
+    static RowMapper<Customer> customerMapper(ColumnIndexes columns) throws SQLException {
+        int id = columns.of("id");
+        int name = columns.of("name");
+        int createDate = columns.of("createDate");
+        int createdBy = columns.of("createdBy");
+        int lastUpdate = columns.of("lastUpdate");
+        int lastUpdatedBy = columns.of("lastUpdatedBy");
+        int address = columns.of("address");
+        int postalCode = columns.of("postalCode");
+        int phone = columns.of("phone");
+        int divisionId = columns.of("divisionId");
+        return results -> new Customer(
+                results.getInt(id),
+                results.getString(name),
+                getServerTimestamp(results, createDate),
+                results.getString(createdBy),
+                getServerTimestamp(results, lastUpdate),
+                results.getString(lastUpdatedBy),
+                results.getString(address),
+                results.getString(postalCode),
+                results.getString(phone),
+                results.getInt(divisionId)
         );
     }
 
@@ -93,41 +200,122 @@ public abstract class CustomerQueryService extends QueryService {
     }
 
     /**
-     * The deleteCustomer method deletes a customer from the customers table in the database
+     * The deleteCustomer method deletes a customer from the customers table in the database if the customer has no
+     * appointments. The customer row is locked before the appointments are checked, so no appointment can be added for
+     * the customer by another client between the check and the delete.
      *
      * @param customerToBeDeleted The customer being deleted
-     * @return Returns a boolean values specifying if the customer was deleted successfully
+     * @return Returns DELETED if the customer was deleted, HAS_APPOINTMENTS if the customer has appointments scheduled,
+     * or NOT_FOUND if the customer no longer exists
      */
-    public static boolean deleteCustomer(Customer customerToBeDeleted) {
-        if (!QueryService.queryHasMatches(
-                String.format(SELECT_ALL, DBModels.APPOINTMENTS.getTableName()) +
-                        WHERE +
-                        String.format(EQUALS_INTEGER,
-                                      DBModels.APPOINTMENTS.getAttributes()
-                                                           .get("customerId"),
-                                      customerToBeDeleted.getId())
-        )) {
-            return QueryService.deleteEntityById(DBModels.CUSTOMERS, customerToBeDeleted.getId());
+    public static DeleteResult deleteCustomer(Customer customerToBeDeleted) {
+        int customerId = customerToBeDeleted.getId();
+        try {
+            return Transaction.run(() -> {
+                if (!lockCustomer(customerId)) {
+                    return DeleteResult.NOT_FOUND;
+                }
+                if (getResult(QueryBuilder.selectOne(DBModels.APPOINTMENTS)
+                                          .where()
+                                          .equalTo(APPOINTMENT_CUSTOMER_ID, customerId)
+                                          .limit(1), ResultSet::next)) {
+                    return DeleteResult.HAS_APPOINTMENTS;
+                }
+                deleteCustomerRow(customerId);
+                return DeleteResult.DELETED;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The deleteCustomerWithAppointments method deletes a customer along with all of their appointments in a single
+     * transaction, so either the customer and every appointment are deleted or nothing is. The IDs of the appointments
+     * are selected once the customer is locked, so they are exactly the appointments deleted.
+     *
+     * @param customerToBeDeleted The customer being deleted
+     * @return Returns the IDs of the appointments deleted with the customer, or null if the customer no longer exists
+     */
+    public static List<Integer> deleteCustomerWithAppointments(Customer customerToBeDeleted) {
+        int customerId = customerToBeDeleted.getId();
+        List<Integer> appointmentIds;
+        try {
+            appointmentIds = Transaction.run(() -> {
+                if (!lockCustomer(customerId)) {
+                    return null;
+                }
+                List<Integer> ids = getResult(QueryBuilder.select(DBModels.APPOINTMENTS, APPOINTMENT_ID)
+                                                          .where()
+                                                          .equalTo(APPOINTMENT_CUSTOMER_ID, customerId),
+                                              resultSet -> {
+                                                  List<Integer> selected = new ArrayList<>();
+                                                  while (resultSet.next()) {
+                                                      selected.add(resultSet.getInt(1));
+                                                  }
+                                                  return selected;
+                                              });
+                executeUpdate(QueryBuilder.deleteFrom(DBModels.APPOINTMENTS)
+                                          .where()
+                                          .equalTo(APPOINTMENT_CUSTOMER_ID, customerId));
+                deleteCustomerRow(customerId);
+                return ids;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
         }
-        return false;
+        if (appointmentIds != null) {
+            AppointmentOverlapIndex.invalidate(customerId);
+        }
+        return appointmentIds;
+    }
+
+    /**
+     * The lockCustomer method locks the row of a customer until the end of the running transaction, which also blocks
+     * other clients from adding appointments for the customer
+     *
+     * @param customerId The ID of the customer
+     * @return Returns a boolean specifying if the customer exists
+     * @throws SQLException Throws SQLException if the query fails
+     */
+    static boolean lockCustomer(int customerId) throws SQLException {
+        return getResult(QueryBuilder.selectOne(DBModels.CUSTOMERS)
+                                     .where()
+                                     .equalTo(ATTRIBUTES.get("id"), customerId)
+                                     .forUpdate(), ResultSet::next);
+    }
+
+    /**
+     * The deleteCustomerRow method deletes the row of a customer
+     *
+     * @param customerId The ID of the customer
+     * @return Returns a boolean specifying if the row was deleted
+     * @throws SQLException Throws SQLException if the query fails
+     */
+    private static boolean deleteCustomerRow(int customerId) throws SQLException {
+        return executeUpdate(QueryBuilder.deleteFrom(DBModels.CUSTOMERS)
+                                         .where()
+                                         .equalTo(ATTRIBUTES.get("id"), customerId)) > 0;
     }
 
     /**
-     * The addCustomer method adds a customer to the customers table in the database
+     * The addCustomer method adds a customer to the customers table in the database. The customer is returned with its
+     * generated ID and the audit times stamped by the database, which are the only columns selected again.
      *
      * @param customer The customer being added to the database
      * @return Returns the added customer
      */
     public static Customer addCustomer(Customer customer) {
-        try (PreparedStatement statement = DBConnection.getConnection()
-                                                       .prepareStatement(ADD_CUSTOMERS_QUERY,
-                                                                         Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement statement = connection.prepareStatement(ADD_CUSTOMERS_QUERY,
+                                                                     Statement.RETURN_GENERATED_KEYS)) {
             setCustomerStatement(statement, customer, true);
-            statement.execute();
+            QueryMetrics.measure(ADD_CUSTOMERS_QUERY, statement::executeUpdate, Integer::longValue);
             try (ResultSet rs = statement.getGeneratedKeys()) {
                 if (rs.next()) {
-                    int id = rs.getInt(1);
-                    return getCustomerById(id);
+                    customer.setId(rs.getInt(1));
+                    readAuditTimes(DBModels.CUSTOMERS, customer);
+                    return customer;
                 }
             }
         } catch (SQLException e) {
@@ -137,21 +325,22 @@ public abstract class CustomerQueryService extends QueryService {
     }
 
     /**
-     * The modifyCustomer method modifies an existing customer in the customers table of the database
+     * The modifyCustomer method modifies an existing customer in the customers table of the database. The customer is
+     * returned with the audit times stamped by the database.
      *
      * @param customer The customer being modified in the database
+     * @return Returns the modified customer
      */
-    public static void modifyCustomer(Customer customer) {
-        try (PreparedStatement statement = DBConnection.getConnection()
-                                                       .prepareStatement(
-                                                               String.format(MODIFY_CUSTOMERS_QUERY,
-                                                                             ATTRIBUTES.get("id"),
-                                                                             customer.getId()))) {
+    public static Customer modifyCustomer(Customer customer) {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement statement = connection.prepareStatement(MODIFY_CUSTOMERS_QUERY)) {
             setCustomerStatement(statement, customer, false);
-            statement.execute();
+            QueryMetrics.measure(MODIFY_CUSTOMERS_QUERY, statement::executeUpdate, Integer::longValue);
+            readAuditTimes(DBModels.CUSTOMERS, customer);
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
+        return customer;
     }
 
     /**
@@ -162,7 +351,7 @@ public abstract class CustomerQueryService extends QueryService {
      * @param setCreatedBy Boolean specifying if the created_by field is being set
      * @throws SQLException Throws SQLException in the event of an error
      */
-    private static void setCustomerStatement(PreparedStatement statement,
+    static void setCustomerStatement(PreparedStatement statement,
                                              Customer customer,
                                              boolean setCreatedBy) throws SQLException {
         statement.setString(1, customer.getAddress());
@@ -170,9 +359,9 @@ public abstract class CustomerQueryService extends QueryService {
         statement.setString(3, customer.getName());
         statement.setString(4, customer.getPhone());
         statement.setString(5, customer.getPostalCode());
-        if (setCreatedBy) {
-            statement.setString(6, customer.getCreatedBy());
+        int index = bindAuditColumns(statement, 6, customer, setCreatedBy);
+        if (!setCreatedBy) {
+            statement.setInt(index, customer.getId());
         }
-        statement.setString(setCreatedBy ? 7 : 6, customer.getLastUpdatedBy());
     }
 }
@@ -0,0 +1,25 @@
+package com.cameronm.scheduleconsult.services;
+
+/**
+ * The DeleteResult enum holds the outcome of deleting a customer, which is only deleted if it has no appointments
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public enum DeleteResult {
+
+    /**
+     * The customer was deleted
+     */
+    DELETED,
+
+    /**
+     * The customer was not deleted because it has appointments scheduled
+     */
+    HAS_APPOINTMENTS,
+
+    /**
+     * The customer was not deleted because it no longer exists
+     */
+    NOT_FOUND
+}
@@ -1,14 +1,13 @@
 package com.cameronm.scheduleconsult.services;
 
 import com.cameronm.scheduleconsult.DAO.DBModels;
-import com.cameronm.scheduleconsult.DAO.DBQueries;
+import com.cameronm.scheduleconsult.DAO.QueryBuilder;
 import com.cameronm.scheduleconsult.models.FirstLevelDivision;
 import javafx.collections.ObservableList;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Timestamp;
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * The FirstLevelDivisionQueryService class is responsible for converting entries in the first_level_divisions table of
@@ -25,45 +24,57 @@ public abstract class FirstLevelDivisionQueryService extends QueryService {
      * @return Returns an ObservableList of all first-level divisions
      */
     public static ObservableList<FirstLevelDivision> getAllDivisions() {
-        return getDivisions(DBQueries.SELECT_ALL);
+        return ReferenceDataCache.getAll(DBModels.DIVISIONS);
     }
 
     /**
      * The getDivisions method returns an ObservableList of specific first-level divisions in the database
      *
-     * @param sqlQuery The query specifying the first-level divisions to return
+     * @param query The query specifying the first-level divisions to return
      * @return Returns an ObservableList of first-level divisions specified by the query
      */
-    public static ObservableList<FirstLevelDivision> getDivisions(String sqlQuery) {
-        return QueryService.getEntities(DBModels.DIVISIONS, sqlQuery);
+    public static ObservableList<FirstLevelDivision> getDivisions(QueryBuilder query) {
+        return QueryService.getEntities(DBModels.DIVISIONS, query);
     }
 
     /**
-     * The getDivision method takes a results set and previously retrieved common attributes and retrieves all the rest
-     * of the remaining first-level division attributes and returns the first-level division
+     * The divisionMapper method returns a row mapper converting the rows of a result set from the first level divisions
+     * table into first level divisions. The index of each column is resolved once here, so every row is read by its int
+     * indexes alone.
      *
-     * @param results          The results set passed in from an entry in the first_level_divisions table
-     * @param entityAttributes Common attribute types that are shared by all audited entities
-     * @return Returns a first-level division
-     * @throws SQLException Throws an SQLException of the ResultSet is invalid
+     * @param columns The column index of each division attribute in the result set
+     * @return Returns the row mapper of the result set
+     * @throws SQLException Throws SQLException if an attribute is not in the result set
      */
-    static FirstLevelDivision getDivision(ResultSet results, HashMap<String, String> entityAttributes)
-            throws SQLException {
-        entityAttributes.put("countryId",
-                             results.getString(DBModels.DIVISIONS.getAttributes()
-                                                                 .get("countryId")));
-        int countryId = Integer.parseInt(entityAttributes.get("countryId"));
-        return new FirstLevelDivision(
-                Integer.parseInt(entityAttributes.get("id")),
-                entityAttributes.get("name"),
-                TimeConversionService.convertFromServerTime(Timestamp.valueOf(entityAttributes.get("createDate"))),
-                entityAttributes.get("createdBy"),
-                TimeConversionService.convertFromServerTime(Timestamp.valueOf(entityAttributes.get("lastUpdate"))),
-                entityAttributes.get("lastUpdatedBy"),
-                countryId
+    static RowMapper<FirstLevelDivision> divisionMapper(ColumnIndexes columns) throws SQLException {
+        int id = columns.of("id");
+        int name = columns.of("name");
+        int createDate = columns.of("createDate");
+        int createdBy = columns.of("createdBy");
+        int lastUpdate = columns.of("lastUpdate");
+        int lastUpdatedBy = columns.of("lastUpdatedBy");
+        int countryId = columns.of("countryId");
+        return results -> new FirstLevelDivision(
+                results.getInt(id),
+                results.getString(name),
+                getServerTimestamp(results, createDate),
+                results.getString(createdBy),
+                getServerTimestamp(results, lastUpdate),
+                results.getString(lastUpdatedBy),
+                results.getInt(countryId)
         );
     }
 
+    /**
+     * The getDivisionNamesById method returns the name of every first-level division keyed by the division ID, so that
+     * division names can be displayed for a whole list of customers from the reference data cache
+     *
+     * @return Returns a map where the key is the division ID and the value is the division name
+     */
+    public static Map<Integer, String> getDivisionNamesById() {
+        return ReferenceDataCache.getNamesById(DBModels.DIVISIONS);
+    }
+
     /**
      * The getMatchFromDatabase method retrieves a matching entry from a first-level division if the customer's division
      * ID matches the first-level division's primary ID
@@ -84,7 +95,7 @@ public abstract class FirstLevelDivisionQueryService extends QueryService {
      * @return returns a first-level division entity
      */
     public static FirstLevelDivision getDivisionById(int divisionId) {
-        return QueryService.getEntityById(DBModels.DIVISIONS, divisionId);
+        return ReferenceDataCache.getById(DBModels.DIVISIONS, divisionId);
     }
 
     /**
@@ -94,12 +105,8 @@ public abstract class FirstLevelDivisionQueryService extends QueryService {
      * @return Returns a list of first-level divisions
      */
     public static ObservableList<FirstLevelDivision> getAllDivisionsByCountryId(int countryId) {
-        String sqlQuery = SELECT_ALL +
-                WHERE +
-                String.format(EQUALS_INTEGER,
-                              DBModels.DIVISIONS.getAttributes()
-                                                .get("countryId"),
-                              countryId);
-        return QueryService.getEntities(DBModels.DIVISIONS, sqlQuery);
+        ObservableList<FirstLevelDivision> divisions = getAllDivisions();
+        divisions.removeIf(division -> division.getCountryId() != countryId);
+        return divisions;
     }
 }
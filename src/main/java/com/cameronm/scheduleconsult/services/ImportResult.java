@@ -0,0 +1,33 @@
+package com.cameronm.scheduleconsult.services;
+
+import java.util.List;
+
+/**
+ * The ImportResult record holds the outcome of importing a file, with the IDs generated for the rows saved to the
+ * database and the reason each rejected row was not saved
+ *
+ * @param importedIds The IDs of the rows saved to the database, in the order they appear in the file
+ * @param rejects     The rows that were not saved, in the order they appear in the file
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public record ImportResult(List<Integer> importedIds, List<Reject> rejects) {
+
+    /**
+     * The imported method returns the number of rows saved to the database
+     *
+     * @return Returns the number of rows saved
+     */
+    public int imported() {
+        return importedIds.size();
+    }
+
+    /**
+     * The Reject record holds a row of an imported file that was not saved
+     *
+     * @param lineNumber The line of the file on which the row starts
+     * @param reason     The reason the row was not saved
+     */
+    public record Reject(int lineNumber, String reason) {
+    }
+}
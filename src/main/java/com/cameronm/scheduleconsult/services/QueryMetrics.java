@@ -0,0 +1,386 @@
+package com.cameronm.scheduleconsult.services;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * The QueryMetrics class records how often each query of the program runs, how long it takes and how many rows it
+ * reads or writes, passing each query on to the SlowQueryLog. Queries are grouped by their parameterized SQL, so every
+ * run of a template counts toward the same shape whatever values are bound to it. A query is timed from its execution
+ * until its results have been read, which leaves out the wait for a connection that the connection pool already
+ * records. The metrics are published over JMX and can be dumped as a table.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public abstract class QueryMetrics {
+
+    /**
+     * The name the metrics are published under over JMX
+     */
+    public static final String OBJECT_NAME = "com.cameronm.scheduleconsult:type=QueryMetrics";
+
+    /**
+     * The metrics of each query shape by its SQL as run
+     */
+    private static final Map<String, ShapeMetrics> SHAPES = new ConcurrentHashMap<>();
+
+    /**
+     * The measure method runs a query and records its time, counting no rows
+     *
+     * @param sql  The SQL of the query
+     * @param work The execution of the query and the reading of its results
+     * @param <R>  The type of the result of the query
+     * @return Returns the result of the query
+     * @throws SQLException Throws SQLException if the query fails, which is recorded as an error
+     */
+    public static <R> R measure(String sql, Measured<R> work) throws SQLException {
+        return measure(sql, work, result -> 0);
+    }
+
+    /**
+     * The measure method runs a query and records its time along with the number of rows it read or wrote
+     *
+     * @param sql      The SQL of the query
+     * @param work     The execution of the query and the reading of its results
+     * @param rowCount The function returning the number of rows of the result
+     * @param <R>      The type of the result of the query
+     * @return Returns the result of the query
+     * @throws SQLException Throws SQLException if the query fails, which is recorded as an error
+     */
+    public static <R> R measure(String sql, Measured<R> work, ToLongFunction<? super R> rowCount) throws SQLException {
+        long started = System.nanoTime();
+        try {
+            R result = work.run();
+            record(sql, System.nanoTime() - started, rowCount.applyAsLong(result), false);
+            return result;
+        } catch (SQLException | RuntimeException exception) {
+            record(sql, System.nanoTime() - started, 0, true);
+            throw exception;
+        }
+    }
+
+    /**
+     * The record method adds a run of a query to the metrics of its shape
+     *
+     * @param sql     The SQL of the query
+     * @param nanos   The time the query took in nanoseconds
+     * @param rows    The number of rows the query read or wrote
+     * @param isError Boolean specifying if the query failed
+     */
+    static void record(String sql, long nanos, long rows, boolean isError) {
+        SHAPES.computeIfAbsent(sql, ShapeMetrics::new)
+              .record(nanos, rows, isError);
+        SlowQueryLog.record(sql, nanos, rows, isError);
+    }
+
+    /**
+     * The getQueryCount method returns the number of queries run
+     *
+     * @return Returns the number of queries run
+     */
+    public static long getQueryCount() {
+        return SHAPES.values()
+                     .stream()
+                     .mapToLong(shape -> shape.count.sum())
+                     .sum();
+    }
+
+    /**
+     * The getErrorCount method returns the number of queries that failed
+     *
+     * @return Returns the number of failed queries
+     */
+    public static long getErrorCount() {
+        return SHAPES.values()
+                     .stream()
+                     .mapToLong(shape -> shape.errors.sum())
+                     .sum();
+    }
+
+    /**
+     * The getTotalTimeMillis method returns the time spent running queries
+     *
+     * @return Returns the total time of the queries in milliseconds
+     */
+    public static double getTotalTimeMillis() {
+        return toMillis(SHAPES.values()
+                              .stream()
+                              .mapToLong(shape -> shape.totalNanos.sum())
+                              .sum());
+    }
+
+    /**
+     * The reset method discards every metric recorded so far
+     */
+    public static void reset() {
+        SHAPES.clear();
+    }
+
+    /**
+     * The dump method returns a table of the metrics of every query shape, the shapes taking the most total time
+     * first
+     *
+     * @return Returns the table of metrics
+     */
+    public static String dump() {
+        StringBuilder dump = new StringBuilder(String.format("%d queries, %d errors, %.1f ms in total%n",
+                                                             getQueryCount(),
+                                                             getErrorCount(),
+                                                             getTotalTimeMillis()));
+        dump.append(String.format("%8s %6s %9s %10s %8s %8s %8s  %s%n",
+                                  "count", "errors", "rows", "total ms", "p50 ms", "p99 ms", "max ms", "sql"));
+        for (ShapeMetrics shape : getShapesByTotalTime()) {
+            dump.append(shape.summary())
+                .append(System.lineSeparator());
+        }
+        return dump.toString();
+    }
+
+    /**
+     * The getShapesByTotalTime method returns the metrics of every query shape, the shapes taking the most total time
+     * first
+     *
+     * @return Returns the metrics of the shapes
+     */
+    private static List<ShapeMetrics> getShapesByTotalTime() {
+        return SHAPES.values()
+                     .stream()
+                     .sorted(Comparator.comparingLong((ShapeMetrics shape) -> shape.totalNanos.sum())
+                                       .reversed())
+                     .toList();
+    }
+
+    /**
+     * The register method publishes the metrics over JMX, under the OBJECT_NAME
+     */
+    public static void register() {
+        try {
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!ManagementFactory.getPlatformMBeanServer()
+                                  .isRegistered(objectName)) {
+                ManagementFactory.getPlatformMBeanServer()
+                                 .registerMBean(new MXBean(), objectName);
+            }
+        } catch (JMException jmException) {
+            jmException.printStackTrace();
+        }
+    }
+
+    /**
+     * The toMillis method converts a time in nanoseconds to milliseconds
+     *
+     * @param nanos The time in nanoseconds
+     * @return Returns the time in milliseconds
+     */
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * The Measured interface is the execution of a query and the reading of its results
+     *
+     * @param <R> The type of the result of the query
+     */
+    @FunctionalInterface
+    public interface Measured<R> {
+
+        /**
+         * The run method executes the query and reads its results
+         *
+         * @return Returns the result of the query
+         * @throws SQLException Throws SQLException if the query fails
+         */
+        R run() throws SQLException;
+    }
+
+    /**
+     * The ShapeMetrics class holds the metrics of one query shape. The times are counted in a histogram with four
+     * buckets for every doubling of microseconds, so the percentiles are estimated to within a fifth of their value
+     * without keeping every time.
+     */
+    private static class ShapeMetrics {
+
+        /**
+         * The number of histogram buckets, enough for times up to days
+         */
+        private static final int BUCKET_COUNT = 160;
+
+        /**
+         * The SQL of the shape with its whitespace collapsed
+         */
+        private final String sql;
+
+        /**
+         * The number of runs
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * The number of failed runs
+         */
+        private final LongAdder errors = new LongAdder();
+
+        /**
+         * The number of rows read or written
+         */
+        private final LongAdder rows = new LongAdder();
+
+        /**
+         * The total time of the runs in nanoseconds
+         */
+        private final LongAdder totalNanos = new LongAdder();
+
+        /**
+         * The longest run in nanoseconds
+         */
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        /**
+         * The number of runs in each bucket of time
+         */
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+        /**
+         * The ShapeMetrics constructor
+         *
+         * @param sql The SQL of the shape
+         */
+        private ShapeMetrics(String sql) {
+            this.sql = sql.strip()
+                          .replaceAll("\\s+", " ");
+        }
+
+        /**
+         * The record method adds a run to the metrics
+         *
+         * @param nanos   The time of the run in nanoseconds
+         * @param rows    The number of rows read or written
+         * @param isError Boolean specifying if the run failed
+         */
+        private void record(long nanos, long rows, boolean isError) {
+            count.increment();
+            if (isError) {
+                errors.increment();
+            }
+            this.rows.add(rows);
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            buckets.incrementAndGet(bucket(nanos));
+        }
+
+        /**
+         * The bucket method returns the histogram bucket of a time, from the position of its highest bit in
+         * microseconds and the two bits after it
+         *
+         * @param nanos The time in nanoseconds
+         * @return Returns the index of the bucket
+         */
+        private static int bucket(long nanos) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(nanos) + 1;
+            int highestBit = 63 - Long.numberOfLeadingZeros(micros);
+            int nextBits = highestBit < 2 ? (int) (micros << (2 - highestBit)) & 3 : (int) (micros >>> (highestBit - 2)) & 3;
+            return Math.min(highestBit * 4 + nextBits, BUCKET_COUNT - 1);
+        }
+
+        /**
+         * The bucketUpperBound method returns the longest time counted in a histogram bucket
+         *
+         * @param bucket The index of the bucket
+         * @return Returns the upper bound of the bucket in nanoseconds
+         */
+        private static long bucketUpperBound(int bucket) {
+            int highestBit = bucket / 4;
+            long micros = (4L + bucket % 4 + 1) << highestBit >> 2;
+            return TimeUnit.MICROSECONDS.toNanos(micros);
+        }
+
+        /**
+         * The percentile method estimates the time under which a share of the runs finished
+         *
+         * @param share The share of the runs, from 0 to 1
+         * @return Returns the estimated time in nanoseconds
+         */
+        private long percentile(double share) {
+            long total = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                total += buckets.get(i);
+            }
+            long target = (long) Math.ceil(total * share);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += buckets.get(i);
+                if (seen >= target && seen > 0) {
+                    return Math.min(bucketUpperBound(i), maxNanos.get());
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * The summary method returns a line of the metrics of the shape
+         *
+         * @return Returns the summary of the shape
+         */
+        private String summary() {
+            return String.format("%8d %6d %9d %10.1f %8.2f %8.2f %8.2f  %s",
+                                 count.sum(),
+                                 errors.sum(),
+                                 rows.sum(),
+                                 toMillis(totalNanos.sum()),
+                                 toMillis(percentile(0.5)),
+                                 toMillis(percentile(0.99)),
+                                 toMillis(maxNanos.get()),
+                                 sql);
+        }
+    }
+
+    /**
+     * The MXBean class publishes the metrics over JMX
+     */
+    private static class MXBean implements QueryMetricsMXBean {
+
+        @Override
+        public long getQueryCount() {
+            return QueryMetrics.getQueryCount();
+        }
+
+        @Override
+        public long getErrorCount() {
+            return QueryMetrics.getErrorCount();
+        }
+
+        @Override
+        public double getTotalTimeMillis() {
+            return QueryMetrics.getTotalTimeMillis();
+        }
+
+        @Override
+        public String[] getShapes() {
+            return getShapesByTotalTime().stream()
+                                         .map(ShapeMetrics::summary)
+                                         .toArray(String[]::new);
+        }
+
+        @Override
+        public String dump() {
+            return QueryMetrics.dump();
+        }
+
+        @Override
+        public void reset() {
+            QueryMetrics.reset();
+        }
+    }
+}
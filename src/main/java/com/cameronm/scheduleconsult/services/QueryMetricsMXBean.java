@@ -0,0 +1,51 @@
+package com.cameronm.scheduleconsult.services;
+
+/**
+ * The QueryMetricsMXBean interface is the view of the QueryMetrics published over JMX
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public interface QueryMetricsMXBean {
+
+    /**
+     * The getQueryCount method returns the number of queries run
+     *
+     * @return Returns the number of queries run
+     */
+    long getQueryCount();
+
+    /**
+     * The getErrorCount method returns the number of queries that failed
+     *
+     * @return Returns the number of failed queries
+     */
+    long getErrorCount();
+
+    /**
+     * The getTotalTimeMillis method returns the time spent running queries
+     *
+     * @return Returns the total time of the queries in milliseconds
+     */
+    double getTotalTimeMillis();
+
+    /**
+     * The getShapes method returns a line of metrics for every query shape, the shapes taking the most total time
+     * first
+     *
+     * @return Returns the metrics of the shapes
+     */
+    String[] getShapes();
+
+    /**
+     * The dump method returns a table of the metrics of every query shape
+     *
+     * @return Returns the table of metrics
+     */
+    String dump();
+
+    /**
+     * The reset method discards every metric recorded so far
+     */
+    void reset();
+}
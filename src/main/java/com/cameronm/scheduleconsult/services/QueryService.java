@@ -3,12 +3,16 @@ package com.cameronm.scheduleconsult.services;
 import com.cameronm.scheduleconsult.DAO.DBConnection;
 import com.cameronm.scheduleconsult.DAO.DBModels;
 import com.cameronm.scheduleconsult.DAO.DBQueries;
+import com.cameronm.scheduleconsult.DAO.QueryBuilder;
+import com.cameronm.scheduleconsult.models.AuditedEntity;
 import com.cameronm.scheduleconsult.models.NamedEntity;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * The QueryService class is responsible for converting entries in the database into Entity instances
@@ -25,11 +29,24 @@ public abstract class QueryService implements DBQueries {
      * @return Returns boolean confirming success of query execution
      */
     public static boolean execute(String sqlQuery) {
+        return execute(new QueryBuilder(sqlQuery));
+    }
+
+    /**
+     * The execute method executes a parameterized query statement in the database
+     *
+     * @param query The query executed
+     * @return Returns boolean confirming success of query execution
+     */
+    public static boolean execute(QueryBuilder query) {
         try (
-                Statement statement = DBConnection.getConnection()
-                                                  .prepareStatement(sqlQuery)
+                Connection connection = DBConnection.getConnection();
+                PreparedStatement statement = query.prepare(connection)
         ) {
-            statement.execute(sqlQuery);
+            QueryMetrics.measure(query.getSql(), () -> {
+                statement.execute();
+                return Math.max(statement.getUpdateCount(), 0);
+            }, Integer::longValue);
             return true;
         } catch (SQLException sqlException) {
             sqlException.printStackTrace();
@@ -38,82 +55,163 @@ public abstract class QueryService implements DBQueries {
     }
 
     /**
-     * The getResultsSet method returns the result set of a query
+     * The executeUpdate method executes a parameterized insert, update or delete in the database, throwing any error so
+     * that a surrounding Transaction is rolled back
+     *
+     * @param query The query executed
+     * @return Returns the number of rows changed
+     * @throws SQLException Throws SQLException if the query fails
+     */
+    public static int executeUpdate(QueryBuilder query) throws SQLException {
+        try (
+                Connection connection = DBConnection.getConnection();
+                PreparedStatement statement = query.prepare(connection)
+        ) {
+            return QueryMetrics.measure(query.getSql(), statement::executeUpdate, Integer::longValue);
+        }
+    }
+
+    /**
+     * The getResult method executes a query and passes its result set to a handler, returning the connection to the
+     * pool once the handler is done
      *
      * @param sqlQuery The query executed
-     * @return Returns the result set of the query
+     * @param handler  The handler reading the result set
+     * @param <R>      The type of the value read from the result set
+     * @return Returns the value read by the handler
+     * @throws SQLException Throws SQLException if unsuccessful
+     */
+    public static <R> R getResult(String sqlQuery, ResultSetHandler<R> handler) throws SQLException {
+        return getResult(new QueryBuilder(sqlQuery), handler);
+    }
+
+    /**
+     * The getResult method executes a parameterized query and passes its result set to a handler, returning the
+     * connection to the pool once the handler is done
+     *
+     * @param query   The query executed
+     * @param handler The handler reading the result set
+     * @param <R>     The type of the value read from the result set
+     * @return Returns the value read by the handler
      * @throws SQLException Throws SQLException if unsuccessful
      */
-    public static ResultSet getResultsSet(String sqlQuery) throws SQLException {
-        Statement statement = DBConnection.getConnection()
-                                          .prepareStatement(sqlQuery);
-        return statement.executeQuery(sqlQuery);
+    public static <R> R getResult(QueryBuilder query, ResultSetHandler<R> handler) throws SQLException {
+        try (
+                Connection connection = DBConnection.getConnection();
+                PreparedStatement statement = query.prepare(connection)
+        ) {
+            return QueryMetrics.measure(query.getSql(), () -> {
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return handler.handle(resultSet);
+                }
+            });
+        }
     }
 
     /**
      * The getEntities method returns a list of entities specified in by a model and query
      *
-     * @param dbModel  The database model used
-     * @param sqlQuery The query executed
-     * @param <T>      The type of NamedEntity returned in the list
+     * @param dbModel The database model used
+     * @param query   The query executed
+     * @param <T>     The type of NamedEntity returned in the list
      * @return Returns an observable list of entities
      */
-    static <T extends NamedEntity> ObservableList<T> getEntities(DBModels dbModel, String sqlQuery) {
-        sqlQuery = String.format(sqlQuery, dbModel.getTableName());
+    static <T extends NamedEntity> ObservableList<T> getEntities(DBModels dbModel, QueryBuilder query) {
         ObservableList<T> entities = FXCollections.observableArrayList();
+        QueryService.<T>forEachEntity(dbModel, query, entities::add);
+        return entities;
+    }
+
+    /**
+     * The forEachEntity method passes each entity specified by a model and query to a consumer as its row is read, so
+     * the caller can render or aggregate the rows without holding all of them in a list
+     *
+     * @param dbModel  The database model used
+     * @param query    The query executed
+     * @param consumer The consumer receiving each entity
+     * @param <T>      The type of NamedEntity passed to the consumer
+     * @return Returns the number of entities read
+     */
+    static <T extends NamedEntity> int forEachEntity(DBModels dbModel, QueryBuilder query, Consumer<T> consumer) {
+        try {
+            return readEntities(dbModel, query, consumer);
+        } catch (SQLException sqlException) {
+            sqlException.printStackTrace();
+        }
+        return 0;
+    }
+
+    /**
+     * The readEntities method passes each entity specified by a model and query to a consumer as its row is read,
+     * leaving any failure to the caller
+     *
+     * @param dbModel  The database model used
+     * @param query    The query executed
+     * @param consumer The consumer receiving each entity
+     * @param <T>      The type of NamedEntity passed to the consumer
+     * @return Returns the number of entities read
+     * @throws SQLException Throws SQLException if the query could not be executed or read
+     */
+    static <T extends NamedEntity> int readEntities(DBModels dbModel, QueryBuilder query, Consumer<T> consumer)
+            throws SQLException {
         try (
-                Statement statement = DBConnection.getConnection()
-                                                  .prepareStatement(sqlQuery);
-                ResultSet results = statement.executeQuery(sqlQuery)
+                Connection connection = DBConnection.getConnection();
+                PreparedStatement statement = query.prepare(connection)
         ) {
-            HashMap<String, String> entityAttributes = new HashMap<>();
-            while (results.next()) {
-                entityAttributes.put("id",
-                                     results.getString(dbModel.getAttributes()
-                                                              .get("id")));
-                entityAttributes.put("name",
-                                     results.getString(dbModel.getAttributes()
-                                                              .get("name")));
-                T entity = null;
-                if (dbModel == DBModels.CONTACTS) {
-                    entity = (T) ContactQueryService.getContact(results, entityAttributes);
-                } else {
-                    entityAttributes.put("createDate",
-                                         results.getString(dbModel.getAttributes()
-                                                                  .get("createDate")));
-                    entityAttributes.put("createdBy",
-                                         results.getString(dbModel.getAttributes()
-                                                                  .get("createdBy")));
-                    entityAttributes.put("lastUpdate",
-                                         results.getString(dbModel.getAttributes()
-                                                                  .get("lastUpdate")));
-                    entityAttributes.put("lastUpdatedBy",
-                                         results.getString(dbModel.getAttributes()
-                                                                  .get("lastUpdatedBy")));
-                    switch (dbModel.getTableName()) {
-                        case "appointments" -> {
-                            entity = (T) AppointmentQueryService.getAppointment(results, entityAttributes);
-                        }
-                        case "countries" -> {
-                            entity = (T) CountryQueryService.getCountry(entityAttributes);
-                        }
-                        case "customers" -> {
-                            entity = (T) CustomerQueryService.getCustomer(results, entityAttributes);
-                        }
-                        case "first_level_divisions" -> {
-                            entity = (T) FirstLevelDivisionQueryService.getDivision(results, entityAttributes);
-                        }
-                        case "users" -> {
-                            entity = (T) UserQueryService.getUser(results, entityAttributes);
-                        }
+            return QueryMetrics.measure(query.getSql(), () -> {
+                int count = 0;
+                try (ResultSet results = statement.executeQuery()) {
+                    RowMapper<T> rowMapper = rowMapper(dbModel,
+                                                       new ColumnIndexes(dbModel, results.getMetaData()));
+                    while (results.next()) {
+                        consumer.accept(rowMapper.mapRow(results));
+                        count++;
                     }
                 }
-                entities.add(entity);
-            }
-        } catch (SQLException sqlException) {
-            sqlException.printStackTrace();
+                return count;
+            }, Integer::longValue);
         }
-        return entities;
+    }
+
+    /**
+     * The rowMapper method returns the row mapper that converts the rows of a result set from a model's table into
+     * entities
+     *
+     * @param dbModel The database model used
+     * @param columns The column index of each attribute of the model in the result set
+     * @param <T>     The type of NamedEntity created by the row mapper
+     * @return Returns the row mapper of the result set
+     * @throws SQLException Throws SQLException if an attribute is not in the result set
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends NamedEntity> RowMapper<T> rowMapper(DBModels dbModel, ColumnIndexes columns)
+            throws SQLException {
+        RowMapper<? extends NamedEntity> rowMapper = switch (dbModel) {
+            case APPOINTMENTS -> AppointmentQueryService.appointmentMapper(columns);
+            case CONTACTS -> ContactQueryService.contactMapper(columns);
+            case COUNTRIES -> CountryQueryService.countryMapper(columns);
+            case CUSTOMERS -> CustomerQueryService.customerMapper(columns);
+            case DIVISIONS -> FirstLevelDivisionQueryService.divisionMapper(columns);
+            case USERS -> UserQueryService.userMapper(columns);
+        };
+        return (RowMapper<T>) rowMapper;
+    }
+
+    /**
+     * The getServerTimestamp method reads a datetime column stored in server time and converts it to the local
+     * timezone, without converting it to a string first
+     *
+     * @param results The result set positioned on the row being read
+     * @param column  The index of the column
+     * @return Returns the timestamp in the local timezone, or null if the column is null
+     * @throws SQLException Throws SQLException if the ResultSet is invalid
+     */
+    static Timestamp getServerTimestamp(ResultSet results, int column) throws SQLException {
+        LocalDateTime serverDateTime = results.getObject(column, LocalDateTime.class);
+        if (serverDateTime == null) {
+            return null;
+        }
+        return TimeConversionService.convertFromServerTime(Timestamp.valueOf(serverDateTime));
     }
 
     /**
@@ -125,11 +223,11 @@ public abstract class QueryService implements DBQueries {
      * @return returns an entity
      */
     static <T extends NamedEntity> T getEntityById(DBModels dbModel, int id) {
-        String sqlQuery = SELECT_ALL + WHERE + String.format(EQUALS_INTEGER,
-                                                             dbModel.getAttributes()
-                                                                    .get("id"),
-                                                             id);
-        ObservableList<T> entity = getEntities(dbModel, sqlQuery);
+        QueryBuilder query = QueryBuilder.selectAll(dbModel)
+                                         .where()
+                                         .equalTo(dbModel.getAttributes()
+                                                         .get("id"), id);
+        ObservableList<T> entity = getEntities(dbModel, query);
         if (!entity.isEmpty()) {
             return entity.get(0);
         } else {
@@ -145,13 +243,96 @@ public abstract class QueryService implements DBQueries {
      * @return Returns boolean confirming success of query execution
      */
     static boolean deleteEntityById(DBModels dbModel, int id) {
-        String sqlQuery = String.format(DELETE, dbModel.getTableName()) +
-                WHERE +
-                String.format(EQUALS_INTEGER,
-                              dbModel.getAttributes()
-                                     .get("id"),
-                              id);
-        return execute(sqlQuery);
+        QueryBuilder query = QueryBuilder.deleteFrom(dbModel)
+                                         .where()
+                                         .equalTo(dbModel.getAttributes()
+                                                         .get("id"), id);
+        boolean executed = execute(query);
+        ReferenceDataCache.invalidate(dbModel);
+        return executed;
+    }
+
+    /**
+     * The insertBatch method inserts entities with a single batch in one transaction and sets the ID generated for
+     * each of them, so a list of entities is saved without a round trip per entity. If any insert fails the whole batch
+     * is rolled back.
+     *
+     * @param insertQuery The parameterized query inserting one entity
+     * @param entities    The entities being inserted
+     * @param binder      The binder setting the values of an entity on the query
+     * @param <T>         The type of entity which must extend NamedEntity
+     * @throws SQLException Throws SQLException if the batch could not be saved
+     */
+    static <T extends NamedEntity> void insertBatch(String insertQuery, List<T> entities, StatementBinder<T> binder)
+            throws SQLException {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement statement = connection.prepareStatement(insertQuery,
+                                                                     Statement.RETURN_GENERATED_KEYS)) {
+            connection.setAutoCommit(false);
+            try {
+                for (T entity : entities) {
+                    binder.bind(statement, entity);
+                    statement.addBatch();
+                }
+                QueryMetrics.measure(insertQuery, () -> {
+                    statement.executeBatch();
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        for (int i = 0; i < entities.size() && keys.next(); i++) {
+                            entities.get(i)
+                                    .setId(keys.getInt(1));
+                        }
+                    }
+                    connection.commit();
+                    return entities.size();
+                }, Integer::longValue);
+            } catch (SQLException | RuntimeException exception) {
+                connection.rollback();
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * The bindAuditColumns method binds the users of an entity's audit columns starting at a parameter index. The audit
+     * times are stamped by the database with NOW(), so every client records them by the same clock.
+     *
+     * @param statement The statement the audit columns are bound to
+     * @param index     The index of the first audit column parameter
+     * @param entity    The entity being saved
+     * @param isNew     Boolean specifying if the entity is being inserted, which binds the created by column
+     * @return Returns the index of the parameter after the audit columns
+     * @throws SQLException Throws SQLException if a value could not be bound
+     */
+    static int bindAuditColumns(PreparedStatement statement, int index, AuditedEntity entity, boolean isNew)
+            throws SQLException {
+        if (isNew) {
+            statement.setString(index++, entity.getCreatedBy());
+        }
+        statement.setString(index++, entity.getLastUpdatedBy());
+        return index;
+    }
+
+    /**
+     * The readAuditTimes method selects the audit times the database stamped on the row of a saved entity and sets
+     * them on the entity in the local timezone. Only the two audit columns are selected, since the rest of the entity
+     * is already known from the values that were saved.
+     *
+     * @param dbModel The model of the entity
+     * @param entity  The saved entity, with its ID
+     * @throws SQLException Throws SQLException if the audit times could not be read
+     */
+    static void readAuditTimes(DBModels dbModel, AuditedEntity entity) throws SQLException {
+        Map<String, String> attributes = dbModel.getAttributes();
+        QueryBuilder query = QueryBuilder.select(dbModel, attributes.get("createDate"), attributes.get("lastUpdate"))
+                                         .where()
+                                         .equalTo(attributes.get("id"), entity.getId());
+        getResult(query, resultSet -> {
+            if (resultSet.next()) {
+                entity.setCreatedDate(getServerTimestamp(resultSet, 1));
+                entity.setLastUpdated(getServerTimestamp(resultSet, 2));
+            }
+            return null;
+        });
     }
 
     /**
@@ -174,37 +355,27 @@ public abstract class QueryService implements DBQueries {
                                                  .get("id");
         String primaryColumn = primaryTable + "." + matchingColumnName;
         String foreignColumn = foreignTable + "." + matchingColumnName;
-        String query = String.format(SELECT_ALL, primaryTable) +
-                String.format(JOIN, foreignTable, primaryColumn, foreignColumn) +
-                String.format(WHERE + EQUALS_INTEGER, primaryColumn, primaryId);
-        String name = null;
-        try (
-                Statement statement = DBConnection.getConnection()
-                                                  .prepareStatement(query);
-                ResultSet resultSet = statement.executeQuery(query)
-        ) {
-            if (resultSet.next()) {
-                name = resultSet.getString(requestedColumn);
-            }
-            return name;
+        QueryBuilder query = QueryBuilder.selectAll(primaryEntity)
+                                         .append(String.format(JOIN, foreignTable, primaryColumn, foreignColumn))
+                                         .where()
+                                         .equalTo(primaryColumn, primaryId);
+        try {
+            return getResult(query, resultSet -> resultSet.next() ? resultSet.getString(requestedColumn) : null);
         } catch (SQLException sqlException) {
             sqlException.printStackTrace();
         }
-        return name;
+        return null;
     }
 
     /**
      * The queryHasMatches method returns a boolean specifying if a query has any matches
      *
-     * @param sqlQuery The query executed
+     * @param query The query executed
      * @return Returns a boolean specifying if any results were found
      */
-    public static boolean queryHasMatches(String sqlQuery) {
-        try (
-                Statement statement = DBConnection.getConnection()
-                                                  .createStatement();
-                ResultSet resultSet = statement.executeQuery(sqlQuery)) {
-            return resultSet.next();
+    public static boolean queryHasMatches(QueryBuilder query) {
+        try {
+            return getResult(query, ResultSet::next);
         } catch (SQLException sqlException) {
             sqlException.printStackTrace();
             return false;
@@ -271,7 +442,9 @@ public abstract class QueryService implements DBQueries {
         return String.format(
                 UPDATE, dbModel.getTableName()) +
                 String.format(SET, setValues) +
-                WHERE + EQUALS_INTEGER;
+                WHERE + String.format(EQUALS,
+                                      dbModel.getAttributes()
+                                             .get("id"));
     }
 
     /**
@@ -0,0 +1,285 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.DAO.DBModels;
+import com.cameronm.scheduleconsult.DAO.QueryBuilder;
+import com.cameronm.scheduleconsult.models.*;
+import com.cameronm.scheduleconsult.settings.DatabaseConfig;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * The ReferenceDataCache class keeps the contacts, users, countries and divisions in memory, since those tables almost
+ * never change. Each table is loaded once and served from memory until its time to live runs out or it is invalidated
+ * by a write, and entities are looked up by ID without a query. Each table is loaded under its own lock, so a slow load
+ * of one table never holds up reads of the others, and callers are given copies of the cached entities so that editing
+ * one cannot change the cache.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public abstract class ReferenceDataCache implements DatabaseConfig {
+
+    /**
+     * The cached table of each cached model
+     */
+    private static final Map<DBModels, CachedTable> TABLES = cachedTables(DBModels.CONTACTS,
+                                                                          DBModels.USERS,
+                                                                          DBModels.COUNTRIES,
+                                                                          DBModels.DIVISIONS);
+
+    /**
+     * The getAll method returns every entity of a cached model, in the order they were loaded
+     *
+     * @param dbModel The cached model
+     * @param <T>     The type of NamedEntity returned
+     * @return Returns a new observable list of copies of the entities
+     */
+    public static <T extends NamedEntity> ObservableList<T> getAll(DBModels dbModel) {
+        Snapshot<T> snapshot = snapshot(dbModel);
+        ObservableList<T> entities = FXCollections.observableArrayList();
+        for (T entity : snapshot.entities()) {
+            entities.add(copy(entity));
+        }
+        return entities;
+    }
+
+    /**
+     * The getById method returns an entity of a cached model by its ID
+     *
+     * @param dbModel The cached model
+     * @param id      The ID of the entity
+     * @param <T>     The type of NamedEntity returned
+     * @return Returns a copy of the entity, or null if there is no entity with the ID
+     */
+    public static <T extends NamedEntity> T getById(DBModels dbModel, int id) {
+        Snapshot<T> snapshot = snapshot(dbModel);
+        T entity = snapshot.entitiesById()
+                           .get(id);
+        return entity == null ? null : copy(entity);
+    }
+
+    /**
+     * The getNamesById method returns the names of every entity of a cached model by their ID
+     *
+     * @param dbModel The cached model
+     * @return Returns an unmodifiable map of the names of the entities
+     */
+    public static Map<Integer, String> getNamesById(DBModels dbModel) {
+        return snapshot(dbModel).namesById();
+    }
+
+    /**
+     * The invalidate method discards the cached entities of a model, so they are loaded again when next requested
+     *
+     * @param dbModel The model whose table was written to
+     */
+    public static void invalidate(DBModels dbModel) {
+        CachedTable table = TABLES.get(dbModel);
+        if (table != null) {
+            table.invalidate();
+        }
+    }
+
+    /**
+     * The invalidateAll method discards every cached entity
+     */
+    public static void invalidateAll() {
+        for (CachedTable table : TABLES.values()) {
+            table.invalidate();
+        }
+    }
+
+    /**
+     * The snapshot method returns the loaded table of a cached model, loading it if it is missing or expired. Only one
+     * load of a table runs at a time, and a table invalidated while it was loading is returned without being cached. If
+     * the table cannot be loaded, an empty table is returned without being cached.
+     *
+     * @param dbModel The cached model
+     * @param <T>     The type of NamedEntity in the table
+     * @return Returns the loaded table
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends NamedEntity> Snapshot<T> snapshot(DBModels dbModel) {
+        CachedTable table = TABLES.get(dbModel);
+        if (table == null) {
+            throw new IllegalArgumentException("The " + dbModel.getTableName() + " table is not cached");
+        }
+        Snapshot<T> snapshot = (Snapshot<T>) table.snapshot;
+        if (snapshot != null && !snapshot.isExpired()) {
+            return snapshot;
+        }
+        synchronized (table.loadLock) {
+            snapshot = (Snapshot<T>) table.snapshot;
+            if (snapshot != null && !snapshot.isExpired()) {
+                return snapshot;
+            }
+            int generation = table.getGeneration();
+            List<T> entities = new ArrayList<>();
+            try {
+                QueryService.<T>readEntities(dbModel, QueryBuilder.selectAll(dbModel), entities::add);
+            } catch (SQLException sqlException) {
+                sqlException.printStackTrace();
+                return new Snapshot<>(List.of(), Map.of(), Map.of(), 0);
+            }
+            Map<Integer, T> entitiesById = new HashMap<>();
+            Map<Integer, String> namesById = new HashMap<>();
+            for (T entity : entities) {
+                entitiesById.put(entity.getId(), entity);
+                namesById.put(entity.getId(), entity.getName());
+            }
+            snapshot = new Snapshot<>(Collections.unmodifiableList(entities),
+                                      Collections.unmodifiableMap(entitiesById),
+                                      Collections.unmodifiableMap(namesById),
+                                      System.currentTimeMillis() + REFERENCE_DATA_TTL_MILLIS);
+            table.store(snapshot, generation);
+            return snapshot;
+        }
+    }
+
+    /**
+     * The cachedTables method returns an empty cached table for each cached model. The map is never changed after it
+     * is built, so it is read without locking.
+     *
+     * @param dbModels The cached models
+     * @return Returns the cached tables by their model
+     */
+    private static Map<DBModels, CachedTable> cachedTables(DBModels... dbModels) {
+        Map<DBModels, CachedTable> tables = new EnumMap<>(DBModels.class);
+        for (DBModels dbModel : dbModels) {
+            tables.put(dbModel, new CachedTable());
+        }
+        return tables;
+    }
+
+    /**
+     * The copy method returns a copy of a cached entity, so the caller can change it without changing the cache
+     *
+     * @param entity The cached entity
+     * @param <T>    The type of NamedEntity copied
+     * @return Returns the copy of the entity
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends NamedEntity> T copy(T entity) {
+        NamedEntity copy;
+        if (entity instanceof Contact contact) {
+            copy = new Contact(contact.getId(), contact.getName(), contact.getEmail());
+        } else if (entity instanceof User user) {
+            copy = new User(user.getId(),
+                            user.getName(),
+                            copyOf(user.getCreatedDate()),
+                            user.getCreatedBy(),
+                            copyOf(user.getLastUpdated()),
+                            user.getLastUpdatedBy(),
+                            user.getPassword());
+        } else if (entity instanceof Country country) {
+            copy = new Country(country.getId(),
+                               country.getName(),
+                               copyOf(country.getCreatedDate()),
+                               country.getCreatedBy(),
+                               copyOf(country.getLastUpdated()),
+                               country.getLastUpdatedBy());
+        } else if (entity instanceof FirstLevelDivision division) {
+            copy = new FirstLevelDivision(division.getId(),
+                                          division.getName(),
+                                          copyOf(division.getCreatedDate()),
+                                          division.getCreatedBy(),
+                                          copyOf(division.getLastUpdated()),
+                                          division.getLastUpdatedBy(),
+                                          division.getCountryId());
+        } else {
+            throw new IllegalArgumentException("Entities of " + entity.getClass()
+                                                                      .getSimpleName() + " are not cached");
+        }
+        return (T) copy;
+    }
+
+    /**
+     * The copyOf method returns a copy of a timestamp, which is itself mutable
+     *
+     * @param timestamp The timestamp
+     * @return Returns the copy of the timestamp, or null if the timestamp is null
+     */
+    private static Timestamp copyOf(Timestamp timestamp) {
+        return timestamp == null ? null : (Timestamp) timestamp.clone();
+    }
+
+    /**
+     * The CachedTable class holds the loaded table of a cached model. Loads of the table are serialized by its load
+     * lock, while the snapshot is read without locking. Every invalidation moves the table to a new generation, so a
+     * load that started before it is not stored.
+     */
+    private static class CachedTable {
+
+        /**
+         * The lock held while the table is loaded
+         */
+        private final Object loadLock = new Object();
+
+        /**
+         * The loaded table, or null if it is not loaded
+         */
+        private volatile Snapshot<?> snapshot;
+
+        /**
+         * The number of times the table has been invalidated
+         */
+        private int generation;
+
+        /**
+         * The getGeneration method returns the number of times the table has been invalidated
+         *
+         * @return Returns the generation of the table
+         */
+        private synchronized int getGeneration() {
+            return generation;
+        }
+
+        /**
+         * The store method caches a loaded table unless the table was invalidated after its load started
+         *
+         * @param loaded     The loaded table
+         * @param generation The generation of the table when its load started
+         */
+        private synchronized void store(Snapshot<?> loaded, int generation) {
+            if (this.generation == generation) {
+                snapshot = loaded;
+            }
+        }
+
+        /**
+         * The invalidate method discards the loaded table
+         */
+        private synchronized void invalidate() {
+            generation++;
+            snapshot = null;
+        }
+    }
+
+    /**
+     * The Snapshot record holds the entities of a cached table and their lookups by ID
+     *
+     * @param entities     The entities in the order they were loaded
+     * @param entitiesById The entities by their ID
+     * @param namesById    The names of the entities by their ID
+     * @param expiresAt    The time in milliseconds at which the snapshot expires
+     * @param <T>          The type of NamedEntity in the table
+     */
+    private record Snapshot<T extends NamedEntity>(List<T> entities,
+                                                   Map<Integer, T> entitiesById,
+                                                   Map<Integer, String> namesById,
+                                                   long expiresAt) {
+
+        /**
+         * The isExpired method returns a boolean specifying if the snapshot has outlived its time to live
+         *
+         * @return Returns a boolean specifying if the snapshot is expired
+         */
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
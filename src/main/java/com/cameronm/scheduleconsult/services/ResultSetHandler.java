@@ -0,0 +1,24 @@
+package com.cameronm.scheduleconsult.services;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The ResultSetHandler interface reads a value from a result set while its connection is still open
+ *
+ * @param <R> The type of the value read from the result set
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+@FunctionalInterface
+public interface ResultSetHandler<R> {
+
+    /**
+     * The handle method reads a value from a result set
+     *
+     * @param resultSet The result set of the query
+     * @return Returns the value read from the result set
+     * @throws SQLException Throws SQLException if the result set is invalid
+     */
+    R handle(ResultSet resultSet) throws SQLException;
+}
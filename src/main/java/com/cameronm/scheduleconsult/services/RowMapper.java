@@ -0,0 +1,27 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.models.NamedEntity;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The RowMapper interface converts the current row of a result set into an entity. A row mapper is created for a
+ * single result set with the index of each column it reads already resolved.
+ *
+ * @param <T> The type of NamedEntity created from each row
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+@FunctionalInterface
+public interface RowMapper<T extends NamedEntity> {
+
+    /**
+     * The mapRow method converts the current row of a result set into an entity
+     *
+     * @param results The result set positioned on the row being converted
+     * @return Returns the entity
+     * @throws SQLException Throws SQLException if the ResultSet is invalid
+     */
+    T mapRow(ResultSet results) throws SQLException;
+}
@@ -0,0 +1,323 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.settings.DatabaseConfig;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * The SlowQueryLog class records the queries that take longer than a threshold and writes the shapes taking the most
+ * total time to a log file in the home folder of the user, so the queries most worth an index or a rewrite can be
+ * found after a screen is reported slow. The literals are normalized out of the SQL of each slow query, so the queries
+ * built from the same DBQueries templates are counted together whatever values they were built with. The log is
+ * rewritten periodically while slow queries are recorded and when the program exits, and the logs of the previous
+ * runs are kept alongside it.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public abstract class SlowQueryLog implements DatabaseConfig {
+
+    /**
+     * The time in nanoseconds after which a query is recorded
+     */
+    private static final long THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(
+            Long.getLong(SLOW_QUERY_THRESHOLD_PROPERTY, SLOW_QUERY_THRESHOLD_MILLIS));
+
+    /**
+     * The path of the log file
+     */
+    private static final Path LOG_PATH = Path.of(System.getProperty("user.home"),
+                                                 SLOW_QUERY_LOG_FOLDER,
+                                                 SLOW_QUERY_LOG_FILE);
+
+    /**
+     * The pattern matching string literals, including those with doubled quotes
+     */
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+    /**
+     * The pattern matching numeric literals that are not part of a name
+     */
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.@])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+
+    /**
+     * The pattern matching a list of values of an IN condition
+     */
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    /**
+     * The pattern matching a run of whitespace
+     */
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * The slow queries recorded by their normalized SQL
+     */
+    private static final Map<String, SlowShape> SHAPES = new ConcurrentHashMap<>();
+
+    /**
+     * The time the recording of slow queries started
+     */
+    private static final LocalDateTime STARTED = LocalDateTime.now()
+                                                              .truncatedTo(ChronoUnit.SECONDS);
+
+    /**
+     * Boolean specifying if slow queries were recorded since the log was last written
+     */
+    private static final AtomicBoolean CHANGED = new AtomicBoolean();
+
+    /**
+     * The executor writing the log periodically, started when the first slow query is recorded
+     */
+    private static ScheduledExecutorService writer;
+
+    /**
+     * Boolean specifying if the logs of previous runs have been rolled over for this run
+     */
+    private static boolean isRolled;
+
+    /**
+     * The record method records a query if it took longer than the threshold
+     *
+     * @param sql     The SQL of the query
+     * @param nanos   The time the query took in nanoseconds
+     * @param rows    The number of rows the query read or wrote
+     * @param isError Boolean specifying if the query failed
+     */
+    static void record(String sql, long nanos, long rows, boolean isError) {
+        if (nanos < THRESHOLD_NANOS) {
+            return;
+        }
+        SHAPES.computeIfAbsent(normalize(sql), shape -> new SlowShape())
+              .record(nanos, rows, isError);
+        CHANGED.set(true);
+        startWriter();
+    }
+
+    /**
+     * The normalize method returns the shape of a query, with its string and numeric literals replaced by parameters,
+     * the values of its IN conditions collapsed and its whitespace collapsed
+     *
+     * @param sql The SQL of the query
+     * @return Returns the normalized SQL
+     */
+    public static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql)
+                                     .replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape)
+                              .replaceAll("?");
+        shape = IN_LIST.matcher(shape)
+                       .replaceAll("IN (?+)");
+        return WHITESPACE.matcher(shape)
+                         .replaceAll(" ")
+                         .strip();
+    }
+
+    /**
+     * The getThresholdMillis method returns the time after which a query is recorded
+     *
+     * @return Returns the threshold in milliseconds
+     */
+    public static long getThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(THRESHOLD_NANOS);
+    }
+
+    /**
+     * The getLogPath method returns the path of the log file
+     *
+     * @return Returns the path of the log file
+     */
+    public static Path getLogPath() {
+        return LOG_PATH;
+    }
+
+    /**
+     * The startWriter method starts writing the log periodically if it is not already
+     */
+    private static synchronized void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slow-query-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(SlowQueryLog::writeIfChanged,
+                                      SLOW_QUERY_LOG_INTERVAL_SECONDS,
+                                      SLOW_QUERY_LOG_INTERVAL_SECONDS,
+                                      TimeUnit.SECONDS);
+    }
+
+    /**
+     * The close method stops the periodic writes and writes the log a last time, if any slow query was recorded
+     *
+     * @return Returns a boolean specifying if the log was written
+     */
+    public static boolean close() {
+        synchronized (SlowQueryLog.class) {
+            if (writer != null) {
+                writer.shutdownNow();
+                writer = null;
+            }
+        }
+        return writeIfChanged();
+    }
+
+    /**
+     * The writeIfChanged method writes the log if slow queries were recorded since it was last written
+     *
+     * @return Returns a boolean specifying if the log was written
+     */
+    private static boolean writeIfChanged() {
+        if (!CHANGED.getAndSet(false)) {
+            return false;
+        }
+        try {
+            write();
+            return true;
+        } catch (IOException | UncheckedIOException exception) {
+            exception.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * The write method replaces the log with a table of the slow query shapes taking the most total time, moving the
+     * log of the previous run aside the first time it is written
+     *
+     * @throws IOException Throws IOException if the log could not be written
+     */
+    private static synchronized void write() throws IOException {
+        Files.createDirectories(LOG_PATH.getParent());
+        if (!isRolled) {
+            roll();
+            isRolled = true;
+        }
+        List<Map.Entry<String, SlowShape>> shapes = SHAPES.entrySet()
+                                                          .stream()
+                                                          .sorted(Comparator.comparingLong(
+                                                                  (Map.Entry<String, SlowShape> entry) ->
+                                                                          entry.getValue().totalNanos.sum())
+                                                                            .reversed())
+                                                          .limit(SLOW_QUERY_LOG_TOP_SHAPES)
+                                                          .toList();
+        Path written = LOG_PATH.resolveSibling(SLOW_QUERY_LOG_FILE + ".tmp");
+        try (PrintWriter log = new PrintWriter(Files.newBufferedWriter(written, StandardCharsets.UTF_8))) {
+            log.printf("Queries slower than %d ms from %s to %s, %d shapes by total time%n",
+                       getThresholdMillis(),
+                       STARTED,
+                       LocalDateTime.now()
+                                    .truncatedTo(ChronoUnit.SECONDS),
+                       SHAPES.size());
+            log.printf("%8s %6s %10s %8s %8s %9s  %s%n", "count", "errors", "total ms", "avg ms", "max ms", "rows",
+                       "sql");
+            for (Map.Entry<String, SlowShape> shape : shapes) {
+                log.println(shape.getValue()
+                                 .summary(shape.getKey()));
+            }
+        }
+        Files.move(written, LOG_PATH, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * The roll method numbers the logs of the previous runs from the most recent, deleting the oldest beyond the
+     * SLOW_QUERY_LOG_HISTORY
+     *
+     * @throws IOException Throws IOException if a log could not be moved
+     */
+    private static void roll() throws IOException {
+        Files.deleteIfExists(LOG_PATH.resolveSibling(SLOW_QUERY_LOG_FILE + "." + SLOW_QUERY_LOG_HISTORY));
+        for (int i = SLOW_QUERY_LOG_HISTORY - 1; i >= 0; i--) {
+            Path previous = i == 0 ? LOG_PATH : LOG_PATH.resolveSibling(SLOW_QUERY_LOG_FILE + "." + i);
+            if (Files.exists(previous)) {
+                Files.move(previous,
+                           LOG_PATH.resolveSibling(SLOW_QUERY_LOG_FILE + "." + (i + 1)),
+                           StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    /**
+     * The SlowShape class holds the slow queries recorded of one shape
+     */
+    private static class SlowShape {
+
+        /**
+         * The number of slow queries
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * The number of slow queries that failed
+         */
+        private final LongAdder errors = new LongAdder();
+
+        /**
+         * The number of rows read or written
+         */
+        private final LongAdder rows = new LongAdder();
+
+        /**
+         * The total time of the slow queries in nanoseconds
+         */
+        private final LongAdder totalNanos = new LongAdder();
+
+        /**
+         * The slowest query in nanoseconds
+         */
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        /**
+         * The record method adds a slow query to the shape
+         *
+         * @param nanos   The time of the query in nanoseconds
+         * @param rows    The number of rows read or written
+         * @param isError Boolean specifying if the query failed
+         */
+        private void record(long nanos, long rows, boolean isError) {
+            count.increment();
+            if (isError) {
+                errors.increment();
+            }
+            this.rows.add(rows);
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        /**
+         * The summary method returns a line of the log for the shape
+         *
+         * @param sql The normalized SQL of the shape
+         * @return Returns the summary of the shape
+         */
+        private String summary(String sql) {
+            long queries = count.sum();
+            double totalMillis = totalNanos.sum() / 1e6;
+            return String.format("%8d %6d %10.1f %8.1f %8.1f %9d  %s",
+                                 queries,
+                                 errors.sum(),
+                                 totalMillis,
+                                 queries == 0 ? 0 : totalMillis / queries,
+                                 maxNanos.get() / 1e6,
+                                 rows.sum(),
+                                 sql);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.cameronm.scheduleconsult.services;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * The StatementBinder interface binds the values of an entity to the placeholders of a prepared statement
+ *
+ * @param <T> The type of the entity bound
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+@FunctionalInterface
+public interface StatementBinder<T> {
+
+    /**
+     * The bind method binds the values of an entity to a prepared statement
+     *
+     * @param statement The statement the values are bound to
+     * @param entity    The entity whose values are bound
+     * @throws SQLException Throws SQLException if a value could not be bound
+     */
+    void bind(PreparedStatement statement, T entity) throws SQLException;
+}
@@ -0,0 +1,331 @@
+package com.cameronm.scheduleconsult.services;
+
+import com.cameronm.scheduleconsult.DAO.DBConnection;
+import com.cameronm.scheduleconsult.Main;
+import com.cameronm.scheduleconsult.models.*;
+import com.cameronm.scheduleconsult.settings.DatabaseConfig;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * The SyntheticDataGenerator class fills the database with generated customers and appointments for load testing every
+ * screen and report at scale. The appointments start on the APPOINTMENT_TIME_INTERVALS within the business hours of the
+ * company over a range of years, never overlap for the same customer, and are spread unevenly, with some customers and
+ * contacts far busier than others. The same seed, years and reference data always generate the same rows, whatever day
+ * they are generated on. Everything is inserted with batched inserts in transactions of IMPORT_BATCH_SIZE rows. It is
+ * run with the number of customers, the number of appointments, and optionally the seed, the number of years and the
+ * first year, such as "100000 1000000 42 3 2025".
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public abstract class SyntheticDataGenerator implements DatabaseConfig, TimeConversionService {
+
+    /**
+     * The name recorded as the creator of the generated rows
+     */
+    private static final String GENERATED_BY = "generator";
+
+    /**
+     * The number of times a free time is looked for before an appointment of a busy customer is skipped
+     */
+    private static final int MAX_SLOT_ATTEMPTS = 20;
+
+    /**
+     * The longest appointment generated, in APPOINTMENT_TIME_INTERVALS
+     */
+    private static final int MAX_APPOINTMENT_INTERVALS = 8;
+
+    /**
+     * The first year appointments are generated in when no first year is given
+     */
+    private static final int DEFAULT_FIRST_YEAR = 2025;
+
+    /**
+     * The first names of the generated customers
+     */
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Amelia", "Oliver", "Isla", "Noah", "Chloe", "Liam", "Emma", "Lucas", "Olivia", "Ethan"
+    };
+
+    /**
+     * The last names of the generated customers
+     */
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin", "Lee",
+            "Tremblay", "Roy", "Gagnon", "Evans", "Walker", "Wright", "Thompson", "White", "Hughes", "Edwards"
+    };
+
+    /**
+     * The streets of the addresses of the generated customers
+     */
+    private static final String[] STREETS = {
+            "Main St", "Oak Ave", "Maple Dr", "Cedar Ln", "Park Rd", "Pine St", "Elm St", "Lake View", "Hill Rd",
+            "High Street", "Church Lane", "Station Road", "King St", "Queen St", "Mill Way"
+    };
+
+    /**
+     * The types of the generated appointments, the first of which are the most common
+     */
+    private static final String[] TYPES = {
+            "Planning Session", "De-Briefing", "Consultation", "Follow-Up", "Review", "Kick-Off"
+    };
+
+    /**
+     * The titles of the generated appointments
+     */
+    private static final String[] TITLES = {
+            "Quarterly review", "Budget planning", "Project kick-off", "Status update", "Contract renewal",
+            "Strategy session", "Onboarding", "Risk assessment"
+    };
+
+    /**
+     * The locations of the generated appointments
+     */
+    private static final String[] LOCATIONS = {
+            "Phoenix, Arizona", "White Plains, New York", "Montreal, Canada", "London, England", "Online"
+    };
+
+    /**
+     * The main method connects to the selected database and generates the requested rows
+     *
+     * @param args The number of customers, the number of appointments, and optionally the seed, number of years and
+     *             first year
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: SyntheticDataGenerator <customers> <appointments> [seed] [years] [first year]");
+            return;
+        }
+        int customerCount = Integer.parseInt(args[0]);
+        int appointmentCount = Integer.parseInt(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        int years = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+        int firstYear = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_FIRST_YEAR;
+        DBConnection.openConnection();
+        Main.serverZoneID = DBConnection.getServerTimezone();
+        try {
+            generate(customerCount, appointmentCount, seed, years, firstYear);
+        } catch (SQLException sqlException) {
+            sqlException.printStackTrace();
+        } finally {
+            DBConnection.closeConnection();
+        }
+    }
+
+    /**
+     * The generate method inserts generated customers, each followed by its appointments, in batches. The appointments
+     * are shared out so that about a fifth of the customers hold most of them, and each customer's appointments are
+     * kept apart from each other in memory before they are inserted.
+     *
+     * @param customerCount    The number of customers generated
+     * @param appointmentCount The number of appointments generated
+     * @param seed             The seed of the random values
+     * @param years            The number of calendar years the appointments are spread over
+     * @param firstYear        The first calendar year the appointments are spread over
+     * @throws SQLException Throws SQLException if a batch could not be saved
+     */
+    public static void generate(int customerCount, int appointmentCount, long seed, int years, int firstYear)
+            throws SQLException {
+        Random random = new Random(seed);
+        List<FirstLevelDivision> divisions = FirstLevelDivisionQueryService.getAllDivisions();
+        List<User> users = UserQueryService.getAllUsers();
+        List<Contact> contacts = ContactQueryService.getAllContacts();
+        if (divisions.isEmpty() || users.isEmpty() || contacts.isEmpty()) {
+            throw new SQLException("The divisions, users and contacts must exist before data is generated");
+        }
+        int[] appointmentsPerCustomer = new int[customerCount];
+        for (int i = 0; i < appointmentCount && customerCount > 0; i++) {
+            appointmentsPerCustomer[skewedIndex(random, customerCount)]++;
+        }
+        LocalDate firstDay = LocalDate.of(firstYear, 1, 1);
+        int days = (int) ChronoUnit.DAYS.between(firstDay, firstDay.plusYears(years));
+        List<Customer> customers = new ArrayList<>();
+        List<Appointment> appointments = new ArrayList<>();
+        int generatedCustomers = 0;
+        int generatedAppointments = 0;
+        for (int first = 0; first < customerCount; first += IMPORT_BATCH_SIZE) {
+            int last = Math.min(first + IMPORT_BATCH_SIZE, customerCount);
+            for (int i = first; i < last; i++) {
+                customers.add(customer(random, divisions));
+            }
+            QueryService.insertBatch(CustomerQueryService.ADD_CUSTOMERS_QUERY,
+                                     customers,
+                                     (statement, customer) -> CustomerQueryService.setCustomerStatement(
+                                             statement, customer, true));
+            generatedCustomers += customers.size();
+            for (int i = first; i < last; i++) {
+                TreeMap<LocalDateTime, LocalDateTime> booked = new TreeMap<>();
+                for (int j = 0; j < appointmentsPerCustomer[i]; j++) {
+                    Appointment appointment = appointment(random,
+                                                          customers.get(i - first)
+                                                                   .getId(),
+                                                          users,
+                                                          contacts,
+                                                          firstDay,
+                                                          days,
+                                                          booked);
+                    if (appointment != null) {
+                        appointments.add(appointment);
+                    }
+                    if (appointments.size() == IMPORT_BATCH_SIZE) {
+                        generatedAppointments += insertAppointments(appointments);
+                    }
+                }
+            }
+            customers.clear();
+            System.out.printf("Generated %d customers and %d appointments%n",
+                              generatedCustomers,
+                              generatedAppointments);
+        }
+        generatedAppointments += insertAppointments(appointments);
+        System.out.printf("Generated %d customers and %d appointments%n", generatedCustomers, generatedAppointments);
+    }
+
+    /**
+     * The insertAppointments method inserts a batch of appointments and clears the batch
+     *
+     * @param appointments The appointments being inserted
+     * @return Returns the number of appointments inserted
+     * @throws SQLException Throws SQLException if the batch could not be saved
+     */
+    private static int insertAppointments(List<Appointment> appointments) throws SQLException {
+        if (appointments.isEmpty()) {
+            return 0;
+        }
+        QueryService.insertBatch(AppointmentQueryService.ADD_APPOINTMENT_QUERY,
+                                 appointments,
+                                 (statement, appointment) -> AppointmentQueryService.setAppointmentStatement(
+                                         statement, appointment, true));
+        int inserted = appointments.size();
+        appointments.clear();
+        return inserted;
+    }
+
+    /**
+     * The customer method generates a customer in a random division
+     *
+     * @param random    The source of the random values
+     * @param divisions The divisions in the database
+     * @return Returns the customer
+     */
+    private static Customer customer(Random random, List<FirstLevelDivision> divisions) {
+        return new Customer(-1,
+                            pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES),
+                            null,
+                            GENERATED_BY,
+                            null,
+                            GENERATED_BY,
+                            (1 + random.nextInt(9_999)) + " " + pick(random, STREETS),
+                            String.format("%05d", random.nextInt(100_000)),
+                            String.format("%03d-%03d-%04d",
+                                          200 + random.nextInt(800),
+                                          random.nextInt(1_000),
+                                          random.nextInt(10_000)),
+                            divisions.get(random.nextInt(divisions.size()))
+                                     .getId());
+    }
+
+    /**
+     * The appointment method generates an appointment of a customer on an open day of the company, starting on an
+     * interval within business hours and ending before closing, at a time the customer has not already booked
+     *
+     * @param random     The source of the random values
+     * @param customerId The ID of the customer
+     * @param users      The users in the database
+     * @param contacts   The contacts in the database, the first of which are given the most appointments
+     * @param firstDay   The first day appointments are generated on
+     * @param days       The number of days appointments are generated on
+     * @param booked     The times already booked for the customer, as ends by start in the timezone of the company
+     * @return Returns the appointment, or null if no free time was found
+     */
+    private static Appointment appointment(Random random,
+                                           int customerId,
+                                           List<User> users,
+                                           List<Contact> contacts,
+                                           LocalDate firstDay,
+                                           int days,
+                                           TreeMap<LocalDateTime, LocalDateTime> booked) {
+        int openIntervals = (int) (ChronoUnit.MINUTES.between(COMPANY_OPENING_TIME, COMPANY_CLOSING_TIME) /
+                APPOINTMENT_TIME_INTERVALS);
+        for (int attempt = 0; attempt < MAX_SLOT_ATTEMPTS; attempt++) {
+            LocalDate day = firstDay.plusDays(random.nextInt(days));
+            if (!COMPANY_OPEN_DAYS.contains(day.getDayOfWeek())) {
+                continue;
+            }
+            int length = 1 + random.nextInt(Math.min(MAX_APPOINTMENT_INTERVALS, openIntervals));
+            LocalDateTime start = day.atTime(COMPANY_OPENING_TIME)
+                                     .plusMinutes((long) APPOINTMENT_TIME_INTERVALS *
+                                                          random.nextInt(openIntervals - length + 1));
+            LocalDateTime end = start.plusMinutes((long) APPOINTMENT_TIME_INTERVALS * length);
+            Map.Entry<LocalDateTime, LocalDateTime> previous = booked.lowerEntry(end);
+            if (previous != null && previous.getValue()
+                                            .isAfter(start)) {
+                continue;
+            }
+            booked.put(start, end);
+            return new Appointment(-1,
+                                   pick(random, TITLES),
+                                   null,
+                                   GENERATED_BY,
+                                   null,
+                                   GENERATED_BY,
+                                   "Generated appointment",
+                                   pick(random, LOCATIONS),
+                                   TYPES[skewedIndex(random, TYPES.length)],
+                                   toLocalTime(start),
+                                   toLocalTime(end),
+                                   customerId,
+                                   users.get(random.nextInt(users.size()))
+                                        .getId(),
+                                   contacts.get(skewedIndex(random, contacts.size()))
+                                           .getId());
+        }
+        return null;
+    }
+
+    /**
+     * The toLocalTime method converts a time of the company to the local timezone the models are held in
+     *
+     * @param companyTime The time in the timezone of the company
+     * @return Returns the time in the local timezone
+     */
+    private static Timestamp toLocalTime(LocalDateTime companyTime) {
+        return Timestamp.valueOf(ZonedDateTime.of(companyTime, COMPANY_ZONE_ID)
+                                              .withZoneSameInstant(LOCAL_ZONE_ID)
+                                              .toLocalDateTime());
+    }
+
+    /**
+     * The skewedIndex method returns a random index that favors the start of the range, so the first fifth of the
+     * indexes are picked about as often as the rest
+     *
+     * @param random The source of the random values
+     * @param bound  The number of indexes
+     * @return Returns an index from zero up to the bound
+     */
+    private static int skewedIndex(Random random, int bound) {
+        double value = random.nextDouble();
+        return (int) (bound * value * value * value);
+    }
+
+    /**
+     * The pick method returns a random value of an array
+     *
+     * @param random The source of the random values
+     * @param values The values picked from
+     * @return Returns the value picked
+     */
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -77,6 +77,11 @@ public interface TimeConversionService {
      */
     DateTimeFormatter MONTH_DATE_HOURS_TIMEZONE_FORMAT = DateTimeFormatter.ofPattern("MMMM d, uuuu - h:mm a (z)");
 
+    /**
+     * The format of the dates and times in imported files, with optional seconds
+     */
+    DateTimeFormatter IMPORT_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm[:ss]");
+
     /**
      * The displayDateTime method returns a string converter used to show time in a specific selection box
      *
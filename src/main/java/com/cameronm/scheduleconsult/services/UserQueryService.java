@@ -1,12 +1,11 @@
 package com.cameronm.scheduleconsult.services;
 
 import com.cameronm.scheduleconsult.DAO.DBModels;
-import com.cameronm.scheduleconsult.DAO.DBQueries;
+import com.cameronm.scheduleconsult.DAO.QueryBuilder;
 import com.cameronm.scheduleconsult.models.User;
 import javafx.collections.ObservableList;
 
 import java.sql.*;
-import java.util.HashMap;
 
 /**
  * The UserQueryService class is responsible for converting entries in the users table of the database into User
@@ -23,41 +22,43 @@ public abstract class UserQueryService extends QueryService {
      * @return Returns an ObservableList of all users
      */
     public static ObservableList<User> getAllUsers() {
-        return getUsers(DBQueries.SELECT_ALL);
+        return ReferenceDataCache.getAll(DBModels.USERS);
     }
 
     /**
      * The getUsers method returns an ObservableList of specific users in the database
      *
-     * @param sqlQuery The query specifying the users to return
+     * @param query The query specifying the users to return
      * @return Returns an ObservableList of users specified by the query
      */
-    public static ObservableList<User> getUsers(String sqlQuery) {
-        return QueryService.getEntities(DBModels.USERS, sqlQuery);
+    public static ObservableList<User> getUsers(QueryBuilder query) {
+        return QueryService.getEntities(DBModels.USERS, query);
     }
 
     /**
-     * The getUser method takes a results set and previously retrieved common attributes and retrieves all the rest of
-     * the remaining user attributes and returns the user
+     * The userMapper method returns a row mapper converting the rows of a result set from the users table into users.
+     * The index of each column is resolved once here, so every row is read by its int indexes alone.
      *
-     * @param results          The results set passed in from an entry in the users table
-     * @param entityAttributes Common attribute types that are shared by all audited entities
-     * @return Returns a user
-     * @throws SQLException Throws an SQLException of the ResultSet is invalid
+     * @param columns The column index of each user attribute in the result set
+     * @return Returns the row mapper of the result set
+     * @throws SQLException Throws SQLException if an attribute is not in the result set
      */
-    static User getUser(ResultSet results, HashMap<String, String> entityAttributes) throws SQLException {
-        entityAttributes.put("password",
-                             results.getString(DBModels.USERS.getAttributes()
-                                                             .get("password")));
-        String password = entityAttributes.get("password");
-        return new User(
-                Integer.parseInt(entityAttributes.get("id")),
-                entityAttributes.get("name"),
-                TimeConversionService.convertFromServerTime(Timestamp.valueOf(entityAttributes.get("createDate"))),
-                entityAttributes.get("createdBy"),
-                TimeConversionService.convertFromServerTime(Timestamp.valueOf(entityAttributes.get("lastUpdate"))),
-                entityAttributes.get("lastUpdatedBy"),
-                password
+    static RowMapper<User> userMapper(ColumnIndexes columns) throws SQLException {
+        int id = columns.of("id");
+        int name = columns.of("name");
+        int createDate = columns.of("createDate");
+        int createdBy = columns.of("createdBy");
+        int lastUpdate = columns.of("lastUpdate");
+        int lastUpdatedBy = columns.of("lastUpdatedBy");
+        int password = columns.of("password");
+        return results -> new User(
+                results.getInt(id),
+                results.getString(name),
+                getServerTimestamp(results, createDate),
+                results.getString(createdBy),
+                getServerTimestamp(results, lastUpdate),
+                results.getString(lastUpdatedBy),
+                results.getString(password)
         );
     }
 
@@ -68,6 +69,6 @@ public abstract class UserQueryService extends QueryService {
      * @return Returns the user
      */
     public static User retrieveUserById(int userId) {
-        return QueryService.getEntityById(DBModels.USERS, userId);
+        return ReferenceDataCache.getById(DBModels.USERS, userId);
     }
 }
@@ -37,4 +37,167 @@ public interface DatabaseConfig {
      * Specifies the timezone that the server should use when interpreting datetime values
      */
     String DB_TIMEZONE = "?serverTimezone=UTC";
+
+    /**
+     * Additional connection properties, enabling server-side prepared statements and letting the driver rewrite a batch
+     * of inserts into multi-row inserts
+     */
+    String DB_PROPERTIES = "&useServerPrepStmts=true&rewriteBatchedStatements=true";
+
+    /**
+     * The statement executed on every new connection so that datetime values are interpreted in UTC
+     */
+    String DB_SESSION_INIT_QUERY = "SET @@SESSION.time_zone = '+00:00'";
+
+    /**
+     * The system property selecting the database backend: mysql for the MySQL server (the default), embedded for an
+     * embedded database saved in the home folder of the user, or memory for an embedded database held in memory
+     */
+    String DB_BACKEND_PROPERTY = "scheduleconsult.db";
+
+    /**
+     * The driver of the embedded database
+     */
+    String EMBEDDED_DB_DRIVER = "org.h2.Driver";
+
+    /**
+     * The embedded database vendor
+     */
+    String EMBEDDED_DB_VENDOR = ":h2:";
+
+    /**
+     * The location of the embedded database saved to disk
+     */
+    String EMBEDDED_DB_LOCATION = "~/.scheduleconsult/";
+
+    /**
+     * The location of the embedded database held in memory
+     */
+    String EMBEDDED_DB_MEMORY_LOCATION = "mem:";
+
+    /**
+     * The connection properties of the embedded database, which runs in MySQL compatibility mode with the column names
+     * and case-insensitive text comparisons of the MySQL schema, and is kept open while the connection pool closes its
+     * connections
+     */
+    String EMBEDDED_DB_PROPERTIES = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE" +
+            ";IGNORECASE=TRUE;NON_KEYWORDS=END,MONTH,YEAR,VALUE;DB_CLOSE_DELAY=-1";
+
+    /**
+     * The statement executed on every new connection to the embedded database so that datetime values are interpreted
+     * in UTC
+     */
+    String EMBEDDED_DB_SESSION_INIT_QUERY = "SET TIME ZONE 'UTC'";
+
+    /**
+     * The script creating the tables and indexes of the embedded database if they do not exist
+     */
+    String EMBEDDED_DB_SCHEMA_SCRIPT = "/com/cameronm/scheduleconsult/sql/schema.sql";
+
+    /**
+     * The script filling an empty embedded database with the sample data of the client_schedule database
+     */
+    String EMBEDDED_DB_SAMPLE_DATA_SCRIPT = "/com/cameronm/scheduleconsult/sql/sample-data.sql";
+
+    /**
+     * The maximum number of connections the connection pool keeps open
+     */
+    int DB_POOL_MAX_SIZE = 10;
+
+    /**
+     * The number of idle connections the connection pool keeps open when evicting idle connections
+     */
+    int DB_POOL_MIN_IDLE = 2;
+
+    /**
+     * The maximum time to wait for a connection to be returned to a full connection pool
+     */
+    long DB_POOL_BORROW_TIMEOUT_MILLIS = 30_000;
+
+    /**
+     * The time a connection may sit unused in the connection pool before it is closed
+     */
+    long DB_POOL_IDLE_TIMEOUT_MILLIS = 600_000;
+
+    /**
+     * The time after which a connection is closed and replaced, regardless of use
+     */
+    long DB_POOL_MAX_LIFETIME_MILLIS = 1_800_000;
+
+    /**
+     * The time in seconds allowed for checking that a connection is still alive when it is borrowed
+     */
+    int DB_POOL_VALIDATION_TIMEOUT_SECONDS = 5;
+
+    /**
+     * Connections returned to the connection pool within this time are lent out again without being checked
+     */
+    long DB_POOL_VALIDATION_BYPASS_MILLIS = 500;
+
+    /**
+     * The number of prepared statements cached on each connection in the connection pool
+     */
+    int DB_STATEMENT_CACHE_SIZE = 64;
+
+    /**
+     * The interval between checks for idle and expired connections in the connection pool
+     */
+    long DB_POOL_HOUSEKEEPING_MILLIS = 30_000;
+
+    /**
+     * The time the contacts, users, countries and divisions are cached before they are loaded again
+     */
+    long REFERENCE_DATA_TTL_MILLIS = 600_000;
+
+    /**
+     * The time the appointment intervals of a customer are kept for overlap checks before they are loaded again
+     */
+    long APPOINTMENT_INTERVAL_TTL_MILLIS = 60_000;
+
+    /**
+     * The number of customers whose appointment intervals are kept for overlap checks, the least recently checked
+     * being discarded first
+     */
+    int APPOINTMENT_INTERVAL_MAX_CUSTOMERS = 1_000;
+
+    /**
+     * The number of imported rows inserted in each batch, each committed in its own transaction
+     */
+    int IMPORT_BATCH_SIZE = 1_000;
+
+    /**
+     * The system property overriding the time in milliseconds after which a query is recorded in the slow query log
+     */
+    String SLOW_QUERY_THRESHOLD_PROPERTY = "scheduleconsult.slowQueryMillis";
+
+    /**
+     * The time in milliseconds after which a query is recorded in the slow query log, unless overridden by the
+     * SLOW_QUERY_THRESHOLD_PROPERTY
+     */
+    long SLOW_QUERY_THRESHOLD_MILLIS = 200;
+
+    /**
+     * The folder in the home folder of the user that the slow query log is written to
+     */
+    String SLOW_QUERY_LOG_FOLDER = ".scheduleconsult";
+
+    /**
+     * The name of the slow query log file
+     */
+    String SLOW_QUERY_LOG_FILE = "slow-queries.log";
+
+    /**
+     * The number of slow query logs of previous runs kept, numbered from the most recent
+     */
+    int SLOW_QUERY_LOG_HISTORY = 5;
+
+    /**
+     * The number of query shapes written to the slow query log, those taking the most total time
+     */
+    int SLOW_QUERY_LOG_TOP_SHAPES = 25;
+
+    /**
+     * The interval between writes of the slow query log while slow queries are being recorded
+     */
+    long SLOW_QUERY_LOG_INTERVAL_SECONDS = 60;
 }
@@ -0,0 +1,160 @@
+package com.cameronm.scheduleconsult.utilities;
+
+import com.cameronm.scheduleconsult.settings.DatabaseConfig;
+import javafx.application.Platform;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The AsyncLoader class runs database work on background threads and hands the results back to the JavaFX application
+ * thread, so the UI keeps rendering while queries run. Requests may be given a key; starting a new request with the
+ * same key cancels the previous one, so a quickly changing filter only ever applies its latest result.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public abstract class AsyncLoader {
+
+    /**
+     * The executor running the background work, sized to the connection pool so tasks never queue on a connection
+     */
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(DatabaseConfig.DB_POOL_MAX_SIZE,
+                                                                                 new LoaderThreadFactory());
+
+    /**
+     * The latest request started for each key
+     */
+    private static final Map<String, CompletableFuture<?>> LATEST_REQUESTS = new ConcurrentHashMap<>();
+
+    /**
+     * The load method runs a query on a background thread and passes its result to a consumer on the JavaFX
+     * application thread
+     *
+     * @param query    The work run on the background thread
+     * @param onLoaded The consumer receiving the result on the JavaFX application thread
+     * @param <T>      The type of the result
+     * @return Returns a future completed on the JavaFX application thread once the consumer has run
+     */
+    public static <T> CompletableFuture<T> load(Supplier<T> query, Consumer<T> onLoaded) {
+        return load(null, query, onLoaded);
+    }
+
+    /**
+     * The load method runs a query on a background thread and passes its result to a consumer on the JavaFX
+     * application thread, cancelling any earlier request with the same key. A cancelled request that has not started
+     * is skipped, and the result of one that was already running is discarded.
+     *
+     * @param key      The key of the request, or null if the request is never superseded
+     * @param query    The work run on the background thread
+     * @param onLoaded The consumer receiving the result on the JavaFX application thread
+     * @param <T>      The type of the result
+     * @return Returns a future completed on the JavaFX application thread once the consumer has run
+     */
+    public static <T> CompletableFuture<T> load(String key, Supplier<T> query, Consumer<T> onLoaded) {
+        CompletableFuture<T> request = new CompletableFuture<>();
+        if (key != null) {
+            CompletableFuture<?> superseded = LATEST_REQUESTS.put(key, request);
+            if (superseded != null) {
+                superseded.cancel(false);
+            }
+        }
+        Future<?> task = EXECUTOR.submit(() -> {
+            if (request.isDone()) {
+                return;
+            }
+            try {
+                T result = query.get();
+                Platform.runLater(() -> finish(key, request, result, null, onLoaded));
+            } catch (RuntimeException runtimeException) {
+                Platform.runLater(() -> finish(key, request, null, runtimeException, onLoaded));
+            }
+        });
+        request.whenComplete((result, error) -> {
+            if (request.isCancelled()) {
+                task.cancel(false);
+            }
+        });
+        return request;
+    }
+
+    /**
+     * The cancel method cancels the latest request started with a key, if it has not finished yet
+     *
+     * @param key The key of the request
+     */
+    public static void cancel(String key) {
+        CompletableFuture<?> request = LATEST_REQUESTS.remove(key);
+        if (request != null) {
+            request.cancel(false);
+        }
+    }
+
+    /**
+     * The finish method applies the result of a request on the JavaFX application thread unless it was superseded
+     *
+     * @param key      The key of the request, or null
+     * @param request  The future of the request
+     * @param result   The result of the query
+     * @param error    The exception thrown by the query, or null
+     * @param onLoaded The consumer receiving the result
+     * @param <T>      The type of the result
+     */
+    private static <T> void finish(String key, CompletableFuture<T> request, T result, RuntimeException error,
+                                   Consumer<T> onLoaded) {
+        if (request.isDone()) {
+            return;
+        }
+        if (key != null) {
+            LATEST_REQUESTS.remove(key, request);
+        }
+        if (error != null) {
+            error.printStackTrace();
+            request.completeExceptionally(error);
+            return;
+        }
+        try {
+            onLoaded.accept(result);
+            request.complete(result);
+        } catch (RuntimeException runtimeException) {
+            request.completeExceptionally(runtimeException);
+            throw runtimeException;
+        }
+    }
+
+    /**
+     * The shutdown method stops the background threads, abandoning any work that has not started
+     */
+    public static void shutdown() {
+        LATEST_REQUESTS.values()
+                       .forEach(request -> request.cancel(false));
+        EXECUTOR.shutdownNow();
+    }
+
+    /**
+     * The LoaderThreadFactory class creates named daemon threads, so background work never keeps the program running
+     */
+    private static class LoaderThreadFactory implements ThreadFactory {
+
+        /**
+         * The number of threads created so far
+         */
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        /**
+         * The newThread method creates a daemon thread for the executor
+         *
+         * @param runnable The work run by the thread
+         * @return Returns the new thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "async-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
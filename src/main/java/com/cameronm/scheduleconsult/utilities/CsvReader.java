@@ -0,0 +1,178 @@
+package com.cameronm.scheduleconsult.utilities;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * The CsvReader class reads a comma separated file one row at a time, so files of any size can be imported without
+ * holding them in memory. Fields may be quoted with double quotes, in which case they may hold commas, line breaks and
+ * doubled quotes. The first row is read as the header, and the fields of each row can be looked up by header name.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public class CsvReader implements Closeable {
+
+    /**
+     * The reader of the file
+     */
+    private final BufferedReader reader;
+
+    /**
+     * The index of each column by its header name, ignoring case
+     */
+    private final Map<String, Integer> columns = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    /**
+     * The line number on which the last row read starts
+     */
+    private int lineNumber;
+
+    /**
+     * The number of lines read so far
+     */
+    private int linesRead;
+
+    /**
+     * The constructor for the CsvReader class, which reads the header row of the file
+     *
+     * @param file The file being read
+     * @throws IOException Throws IOException if the file could not be read or has no header row
+     */
+    public CsvReader(Path file) throws IOException {
+        reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        List<String> header = readRow();
+        if (header == null) {
+            reader.close();
+            throw new IOException("The file " + file.getFileName() + " is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i)
+                              .replace("\uFEFF", "")
+                              .trim(), i);
+        }
+    }
+
+    /**
+     * The requireColumns method checks that the header row names every column needed
+     *
+     * @param names The names of the columns needed
+     * @throws IOException Throws IOException naming the first column missing from the header row
+     */
+    public void requireColumns(String... names) throws IOException {
+        for (String name : names) {
+            if (!columns.containsKey(name)) {
+                throw new IOException("The file has no " + name + " column");
+            }
+        }
+    }
+
+    /**
+     * The readRow method reads the next row of the file, skipping blank lines
+     *
+     * @return Returns the fields of the row, or null at the end of the file
+     * @throws IOException Throws IOException if the file could not be read
+     */
+    public List<String> readRow() throws IOException {
+        String line = nextLine();
+        while (line != null && line.isBlank()) {
+            line = nextLine();
+        }
+        if (line == null) {
+            return null;
+        }
+        lineNumber = linesRead;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                line = nextLine();
+                if (line == null) {
+                    throw new IOException("Unclosed quote in the row on line " + lineNumber);
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char character = line.charAt(i++);
+            if (quoted) {
+                if (character != '"') {
+                    field.append(character);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (character == '"') {
+                quoted = true;
+            } else if (character == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(character);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * The get method returns the trimmed field of a row in a column
+     *
+     * @param row    The fields of the row
+     * @param column The header name of the column
+     * @return Returns the field, or an empty string if the row has no field in the column
+     */
+    public String get(List<String> row, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= row.size()) {
+            return "";
+        }
+        return row.get(index)
+                  .trim();
+    }
+
+    /**
+     * The getLineNumber method returns the line number on which the last row read starts
+     *
+     * @return Returns the line number of the last row
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * The nextLine method reads the next line of the file and counts it
+     *
+     * @return Returns the line, or null at the end of the file
+     * @throws IOException Throws IOException if the file could not be read
+     */
+    private String nextLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            linesRead++;
+        }
+        return line;
+    }
+
+    /**
+     * The close method closes the file
+     *
+     * @throws IOException Throws IOException if the file could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
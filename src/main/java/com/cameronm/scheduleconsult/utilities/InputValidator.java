@@ -137,6 +137,37 @@ abstract public class InputValidator implements TimeConversionService {
                                                 LocalTime endTime,
                                                 String modifiedAppointmentId,
                                                 String customerID) {
+        Exception businessHoursError = checkBusinessHours(startDate, startTime, endDate, endTime);
+        if (businessHoursError != null) {
+            return businessHoursError;
+        }
+        if (AppointmentQueryService.existingCustomerAppointmentsInRange(
+                startDate,
+                startTime,
+                endDate,
+                endTime,
+                modifiedAppointmentId,
+                customerID
+                )) {
+            return new IllegalStateException("The customer has an existing appointment during this time");
+        }
+        return null;
+    }
+
+    /**
+     * The checkBusinessHours method returns an exception if the start and end of an appointment are missing, out of
+     * order, or outside the business hours of a single day of the company
+     *
+     * @param startDate The start date that was entered
+     * @param startTime The start time that was entered
+     * @param endDate   The end date that was entered
+     * @param endTime   The end time that was entered
+     * @return Returns an exception with a message specifying the error, or null if the times are valid
+     */
+    public static Exception checkBusinessHours(LocalDate startDate,
+                                               LocalTime startTime,
+                                               LocalDate endDate,
+                                               LocalTime endTime) {
         if (startDate == null || startTime == null) {
             return new IllegalArgumentException("Start Date/Time");
         }
@@ -185,16 +216,6 @@ abstract public class InputValidator implements TimeConversionService {
                     "The appointment start date and end date must occur on the same business day between %s to %s",
                     validStartTime, validEndTime));
         }
-        if (AppointmentQueryService.existingCustomerAppointmentsInRange(
-                startDate,
-                startTime,
-                endDate,
-                endTime,
-                modifiedAppointmentId,
-                customerID
-                )) {
-            return new IllegalStateException("The customer has an existing appointment during this time");
-        }
         return null;
     }
 
@@ -0,0 +1,346 @@
+package com.cameronm.scheduleconsult.utilities;
+
+import com.cameronm.scheduleconsult.models.NamedEntity;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.TableView;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The PagedTableLoader class fills a table view one page at a time as the user scrolls, instead of loading every row up
+ * front. The page after the rows on screen is always loaded ahead in the background, so it can be appended the moment
+ * the user scrolls near the bottom of the table. Saved and deleted rows can be patched into the rows already loaded, so
+ * the table view never has to be reloaded from the first page after a change. The rows are kept in page order and
+ * shown through a sorted view bound to the sort of the table view, so a page appended after the user sorts a column
+ * is sorted in with the rows already shown. Every page loaded is kept until the loader is stopped or reloaded, so the
+ * memory used grows with how far the table view is scrolled.
+ *
+ * @param <T> The type of the rows in the table view
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public class PagedTableLoader<T extends NamedEntity> {
+
+    /**
+     * The fraction of the table scrolled past at which the prefetched page is appended
+     */
+    private static final double APPEND_THRESHOLD = 0.8;
+
+    /**
+     * The table view filled by the loader
+     */
+    private final TableView<T> tableView;
+
+    /**
+     * The key of the background requests made by the loader
+     */
+    private final String requestKey;
+
+    /**
+     * The maximum number of rows in a page
+     */
+    private final int pageSize;
+
+    /**
+     * The rows loaded so far, in page order
+     */
+    private final ObservableList<T> rows = FXCollections.observableArrayList();
+
+    /**
+     * The rows shown in the table view, sorted by the columns the user sorts the table view by
+     */
+    private final SortedList<T> sortedRows = new SortedList<>(rows);
+
+    /**
+     * The source of the pages, or null once the loader is stopped
+     */
+    private PageSource<T> pageSource;
+
+    /**
+     * The order of the rows returned by the page source
+     */
+    private Comparator<? super T> pageOrder;
+
+    /**
+     * The condition a row must meet to be returned by the page source
+     */
+    private Predicate<? super T> pageFilter;
+
+    /**
+     * The last row loaded in page order
+     */
+    private T lastLoaded;
+
+    /**
+     * The page loaded ahead of the rows in the table view, or null if it has not been loaded yet
+     */
+    private List<T> prefetched;
+
+    /**
+     * Boolean specifying if a page is currently being loaded
+     */
+    private boolean loading;
+
+    /**
+     * Boolean specifying if the last page has been loaded
+     */
+    private boolean exhausted;
+
+    /**
+     * The vertical scroll bar of the table view, found once its skin has been created
+     */
+    private ScrollBar scrollBar;
+
+    /**
+     * The constructor for the PagedTableLoader class
+     *
+     * @param tableView  The table view filled by the loader
+     * @param requestKey The key of the background requests made by the loader
+     * @param pageSize   The maximum number of rows in a page
+     */
+    public PagedTableLoader(TableView<T> tableView, String requestKey, int pageSize) {
+        this.tableView = tableView;
+        this.requestKey = requestKey;
+        this.pageSize = pageSize;
+        sortedRows.comparatorProperty()
+                  .bind(tableView.comparatorProperty());
+    }
+
+    /**
+     * The load method clears the table view and starts filling it from the first page of a source returning every row
+     *
+     * @param pageSource The source of the pages
+     * @param pageOrder  The order of the rows returned by the page source
+     */
+    public void load(PageSource<T> pageSource, Comparator<? super T> pageOrder) {
+        load(pageSource, pageOrder, row -> true);
+    }
+
+    /**
+     * The load method clears the table view and starts filling it from the first page of a source
+     *
+     * @param pageSource The source of the pages
+     * @param pageOrder  The order of the rows returned by the page source
+     * @param pageFilter The condition a row must meet to be returned by the page source
+     */
+    public void load(PageSource<T> pageSource, Comparator<? super T> pageOrder, Predicate<? super T> pageFilter) {
+        stop();
+        this.pageSource = pageSource;
+        this.pageOrder = pageOrder;
+        this.pageFilter = pageFilter;
+        tableView.setItems(sortedRows);
+        tableView.refresh();
+        attachScrollBar();
+        loadNextPage();
+    }
+
+    /**
+     * The stop method stops loading pages and discards any page still loading, leaving the rows already loaded
+     */
+    public void stop() {
+        AsyncLoader.cancel(requestKey);
+        pageSource = null;
+        pageOrder = null;
+        pageFilter = null;
+        lastLoaded = null;
+        prefetched = null;
+        loading = false;
+        exhausted = false;
+        rows.clear();
+    }
+
+    /**
+     * The put method shows a new or changed row in its place among the rows already loaded. A row that does not match
+     * the page source, or that would only be reached by a page not loaded yet, is removed instead so that its page
+     * brings it in when the table view is scrolled to it. The rows keep their ID, so the row being replaced is found
+     * by its ID rather than by reference.
+     *
+     * @param row The row that was added or changed
+     */
+    public void put(T row) {
+        if (pageSource == null) {
+            return;
+        }
+        discardPendingPage();
+        removeRow(row.getId());
+        boolean loaded = exhausted || (lastLoaded != null && pageOrder.compare(row, lastLoaded) <= 0);
+        if (loaded && pageFilter.test(row)) {
+            int index = 0;
+            while (index < rows.size() && pageOrder.compare(rows.get(index), row) < 0) {
+                index++;
+            }
+            rows.add(index, row);
+        }
+        loadNextPage();
+    }
+
+    /**
+     * The remove method removes a deleted row from the rows already loaded
+     *
+     * @param id The ID of the row that was deleted
+     */
+    public void remove(int id) {
+        if (pageSource == null) {
+            return;
+        }
+        discardPendingPage();
+        removeRow(id);
+        loadNextPage();
+    }
+
+    /**
+     * The remove method removes several deleted rows from the rows already loaded
+     *
+     * @param ids The IDs of the rows that were deleted
+     */
+    public void remove(Collection<Integer> ids) {
+        if (pageSource == null || ids.isEmpty()) {
+            return;
+        }
+        discardPendingPage();
+        rows.removeIf(row -> ids.contains(row.getId()));
+        loadNextPage();
+    }
+
+    /**
+     * The removeRow method removes the row with an ID from the rows already loaded
+     *
+     * @param id The ID of the row
+     */
+    private void removeRow(int id) {
+        rows.removeIf(row -> row.getId() == id);
+    }
+
+    /**
+     * The discardPendingPage method discards the page loading or loaded ahead, which may hold a row that has since
+     * changed, so that it is loaded again after the change
+     */
+    private void discardPendingPage() {
+        AsyncLoader.cancel(requestKey);
+        loading = false;
+        if (prefetched != null) {
+            prefetched = null;
+            exhausted = false;
+        }
+    }
+
+    /**
+     * The isShowing method returns a boolean specifying if the table view holds the rows of this loader, rather than
+     * a list set on it by another screen state
+     *
+     * @return Returns a boolean specifying if the table view shows the rows of this loader
+     */
+    public boolean isShowing() {
+        return tableView.getItems() == sortedRows;
+    }
+
+    /**
+     * The getRows method returns the rows loaded into the table view so far, in page order
+     *
+     * @return Returns the rows loaded so far
+     */
+    public ObservableList<T> getRows() {
+        return rows;
+    }
+
+    /**
+     * The loadNextPage method loads the page after the last row in the background and keeps it as the prefetched page
+     */
+    private void loadNextPage() {
+        if (loading || exhausted || prefetched != null || pageSource == null) {
+            return;
+        }
+        loading = true;
+        PageSource<T> source = pageSource;
+        T after = lastLoaded;
+        AsyncLoader.load(requestKey, () -> source.loadPage(after, pageSize), page -> {
+            loading = false;
+            if (source != pageSource) {
+                return;
+            }
+            exhausted = page.size() < pageSize;
+            prefetched = page;
+            if (rows.isEmpty() || isNearBottom()) {
+                appendPrefetched();
+            }
+        });
+    }
+
+    /**
+     * The appendPrefetched method appends the prefetched page to the table view and starts loading the page after it
+     */
+    private void appendPrefetched() {
+        if (prefetched == null || tableView.getItems() != sortedRows) {
+            return;
+        }
+        if (!prefetched.isEmpty()) {
+            lastLoaded = prefetched.get(prefetched.size() - 1);
+            rows.addAll(prefetched);
+        }
+        prefetched = null;
+        attachScrollBar();
+        loadNextPage();
+    }
+
+    /**
+     * The isNearBottom method returns a boolean specifying if the table view is scrolled close enough to the bottom for
+     * the next page to be shown, which is also the case when every row already fits on screen
+     *
+     * @return Returns a boolean specifying if the next page should be shown
+     */
+    private boolean isNearBottom() {
+        if (scrollBar == null || !scrollBar.isVisible()) {
+            return true;
+        }
+        double range = scrollBar.getMax() - scrollBar.getMin();
+        return range <= 0 || (scrollBar.getValue() - scrollBar.getMin()) / range >= APPEND_THRESHOLD;
+    }
+
+    /**
+     * The attachScrollBar method finds the vertical scroll bar of the table view and appends the prefetched page
+     * whenever it is scrolled near the bottom. The scroll bar only exists once the table view has been skinned.
+     */
+    private void attachScrollBar() {
+        if (scrollBar != null) {
+            return;
+        }
+        for (Node node : tableView.lookupAll(".scroll-bar")) {
+            if (node instanceof ScrollBar bar && bar.getOrientation() == Orientation.VERTICAL) {
+                scrollBar = bar;
+                scrollBar.valueProperty()
+                         .addListener((observable, oldValue, newValue) -> {
+                             if (isNearBottom()) {
+                                 appendPrefetched();
+                             }
+                         });
+                return;
+            }
+        }
+    }
+
+    /**
+     * The PageSource interface loads a page of rows following the last row already loaded
+     *
+     * @param <T> The type of the rows
+     */
+    @FunctionalInterface
+    public interface PageSource<T> {
+
+        /**
+         * The loadPage method loads the page of rows following a row. It is called off the JavaFX application thread.
+         *
+         * @param after    The last row already loaded, or null for the first page
+         * @param pageSize The maximum number of rows in the page
+         * @return Returns the rows of the page
+         */
+        List<T> loadPage(T after, int pageSize);
+    }
+}
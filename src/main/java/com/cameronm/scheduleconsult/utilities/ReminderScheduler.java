@@ -0,0 +1,336 @@
+package com.cameronm.scheduleconsult.utilities;
+
+import com.cameronm.scheduleconsult.Main;
+import com.cameronm.scheduleconsult.models.Appointment;
+import com.cameronm.scheduleconsult.services.AppointmentQueryService;
+import com.cameronm.scheduleconsult.services.TimeConversionService;
+import javafx.application.Platform;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The ReminderScheduler class reminds the logged-in user of their appointments as each one comes within
+ * APPOINTMENT_REMINDER_MINUTES of its start. The upcoming appointments of the user are held in a queue ordered by the
+ * time of their reminder, and a single timer is set for the reminder at the head of the queue, so nothing runs between
+ * reminders except a periodic refresh that reads only the appointments updated since the last one. Every reminder is
+ * checked against the database before it is shown, so appointments deleted or moved by another client are never
+ * reminded of at their old time.
+ *
+ * @author Cameron M
+ * @since 10-17-2026
+ */
+public abstract class ReminderScheduler {
+
+    /**
+     * The reminders of the logged-in user, or null if no user is logged in
+     */
+    private static volatile Session session;
+
+    /**
+     * The start method starts reminding a user of their appointments, replacing the reminders of any previous user.
+     * The consumer is given the due appointments on the JavaFX application thread, and is also given an empty list once
+     * the appointments have first been loaded if none are due.
+     *
+     * @param userId The ID of the logged-in user
+     * @param onDue  The consumer receiving the appointments whose reminders are due
+     */
+    public static synchronized void start(int userId, Consumer<List<Appointment>> onDue) {
+        stop();
+        session = new Session(userId, onDue);
+        session.start();
+    }
+
+    /**
+     * The stop method stops reminding the logged-in user, discarding every reminder scheduled
+     */
+    public static synchronized void stop() {
+        if (session != null) {
+            session.executor.shutdownNow();
+            session = null;
+        }
+    }
+
+    /**
+     * The put method schedules the reminder of an appointment saved by the logged-in user, replacing its previous
+     * reminder, so it does not wait for the next refresh
+     *
+     * @param appointment The appointment that was added or modified
+     */
+    public static void put(Appointment appointment) {
+        Session current = session;
+        if (current != null) {
+            current.executor.execute(() -> current.schedule(appointment));
+        }
+    }
+
+    /**
+     * The remove method cancels the reminder of a deleted appointment
+     *
+     * @param appointmentId The ID of the appointment
+     */
+    public static void remove(int appointmentId) {
+        Session current = session;
+        if (current != null) {
+            current.executor.execute(() -> current.cancel(appointmentId));
+        }
+    }
+
+    /**
+     * The Reminder record holds an appointment in the queue along with the time at which it is reminded of
+     *
+     * @param appointment The appointment
+     * @param remindAt    The time of the reminder in milliseconds
+     */
+    private record Reminder(Appointment appointment, long remindAt) {
+
+        /**
+         * The of method returns the reminder of an appointment
+         *
+         * @param appointment The appointment
+         * @return Returns the reminder of the appointment
+         */
+        private static Reminder of(Appointment appointment) {
+            return new Reminder(appointment,
+                                appointment.getStart()
+                                           .getTime() - TimeUnit.MINUTES.toMillis(Main.APPOINTMENT_REMINDER_MINUTES));
+        }
+
+        /**
+         * The getStart method returns the start of the appointment in milliseconds
+         *
+         * @return Returns the start of the appointment
+         */
+        private long getStart() {
+            return appointment.getStart()
+                              .getTime();
+        }
+    }
+
+    /**
+     * The Session class holds the reminders of one logged-in user. All of its state is only touched by the single
+     * thread of its executor, so it needs no locking.
+     */
+    private static class Session {
+
+        /**
+         * The ID of the logged-in user
+         */
+        private final int userId;
+
+        /**
+         * The consumer receiving the appointments whose reminders are due
+         */
+        private final Consumer<List<Appointment>> onDue;
+
+        /**
+         * The executor running the refreshes and reminders of the session
+         */
+        private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "appointment-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        /**
+         * The reminders ordered by their time. A reminder replaced or cancelled stays in the queue until it reaches
+         * the head, where it is discarded.
+         */
+        private final PriorityQueue<Reminder> queue = new PriorityQueue<>(
+                Comparator.comparingLong(Reminder::remindAt)
+                          .thenComparingInt(reminder -> reminder.appointment()
+                                                                .getId()));
+
+        /**
+         * The current reminder of each appointment by the appointment ID
+         */
+        private final Map<Integer, Reminder> reminders = new HashMap<>();
+
+        /**
+         * The timer of the reminder at the head of the queue
+         */
+        private ScheduledFuture<?> nextReminder;
+
+        /**
+         * The end of the range of appointments loaded so far in server time
+         */
+        private Timestamp loadedUntil;
+
+        /**
+         * The time of the last refresh in server time
+         */
+        private Timestamp refreshedAt;
+
+        /**
+         * The Session constructor
+         *
+         * @param userId The ID of the logged-in user
+         * @param onDue  The consumer receiving the appointments whose reminders are due
+         */
+        private Session(int userId, Consumer<List<Appointment>> onDue) {
+            this.userId = userId;
+            this.onDue = onDue;
+        }
+
+        /**
+         * The start method loads the upcoming appointments of the user, shows the reminders already due and schedules
+         * the periodic refreshes
+         */
+        private void start() {
+            executor.execute(() -> {
+                refresh();
+                remindDue(true);
+            });
+            executor.scheduleWithFixedDelay(() -> {
+                refresh();
+                setNextReminder();
+            }, Main.APPOINTMENT_REMINDER_REFRESH_SECONDS, Main.APPOINTMENT_REMINDER_REFRESH_SECONDS, TimeUnit.SECONDS);
+        }
+
+        /**
+         * The refresh method reads the appointments of the user added or changed since the last refresh, along with
+         * those that have come into the range of reminders kept scheduled, and schedules their reminders. The time of
+         * the last refresh is moved back by the refresh period, so an update saved by a client whose clock runs behind
+         * is not missed.
+         */
+        private void refresh() {
+            try {
+                Timestamp now = TimeConversionService.getCurrentTimeInServerTime();
+                Timestamp until = Timestamp.valueOf(now.toLocalDateTime()
+                                                       .plusHours(Main.APPOINTMENT_REMINDER_WINDOW_HOURS));
+                Timestamp updatedSince = refreshedAt == null ? null : Timestamp.valueOf(
+                        refreshedAt.toLocalDateTime()
+                                   .minusSeconds(Main.APPOINTMENT_REMINDER_REFRESH_SECONDS));
+                for (Appointment appointment : AppointmentQueryService.getUpcomingAppointmentsByUser(userId,
+                                                                                                     now,
+                                                                                                     until,
+                                                                                                     loadedUntil,
+                                                                                                     updatedSince)) {
+                    add(appointment);
+                }
+                loadedUntil = until;
+                refreshedAt = now;
+            } catch (RuntimeException runtimeException) {
+                runtimeException.printStackTrace();
+            }
+        }
+
+        /**
+         * The schedule method schedules the reminder of an appointment saved by the user, or cancels it if the
+         * appointment no longer belongs to the user or is outside the range of reminders kept scheduled
+         *
+         * @param appointment The appointment that was saved
+         */
+        private void schedule(Appointment appointment) {
+            long windowEnd = System.currentTimeMillis() +
+                    TimeUnit.HOURS.toMillis(Main.APPOINTMENT_REMINDER_WINDOW_HOURS);
+            if (appointment.getUserId() == userId && appointment.getStart()
+                                                                .getTime() < windowEnd) {
+                add(appointment);
+            } else {
+                reminders.remove(appointment.getId());
+            }
+            setNextReminder();
+        }
+
+        /**
+         * The cancel method cancels the reminder of an appointment
+         *
+         * @param appointmentId The ID of the appointment
+         */
+        private void cancel(int appointmentId) {
+            reminders.remove(appointmentId);
+            setNextReminder();
+        }
+
+        /**
+         * The add method adds the reminder of an appointment to the queue, replacing its previous reminder. An
+         * appointment that has already started is not reminded of.
+         *
+         * @param appointment The appointment
+         */
+        private void add(Appointment appointment) {
+            Reminder reminder = Reminder.of(appointment);
+            if (reminder.getStart() <= System.currentTimeMillis()) {
+                reminders.remove(appointment.getId());
+                return;
+            }
+            reminders.put(appointment.getId(), reminder);
+            queue.add(reminder);
+        }
+
+        /**
+         * The remindDue method takes every reminder that is due from the queue and passes its appointment to the
+         * consumer, after reading the appointment again to drop those deleted or moved since they were scheduled
+         *
+         * @param isFirstCheck Boolean specifying if the consumer is given an empty list when no reminder is due
+         */
+        private void remindDue(boolean isFirstCheck) {
+            long now = System.currentTimeMillis();
+            List<Appointment> due = new ArrayList<>();
+            while (discardReplaced() && queue.peek()
+                                             .remindAt() <= now) {
+                Reminder reminder = queue.poll();
+                reminders.remove(reminder.appointment()
+                                         .getId());
+                Appointment current = AppointmentQueryService.getAppointmentById(reminder.appointment()
+                                                                                         .getId());
+                if (current == null || current.getUserId() != userId) {
+                    continue;
+                }
+                if (current.getStart()
+                           .equals(reminder.appointment()
+                                           .getStart())) {
+                    if (reminder.getStart() > now) {
+                        due.add(current);
+                    }
+                } else {
+                    add(current);
+                }
+            }
+            if (!due.isEmpty() || isFirstCheck) {
+                Platform.runLater(() -> {
+                    if (session == this) {
+                        onDue.accept(due);
+                    }
+                });
+            }
+            setNextReminder();
+        }
+
+        /**
+         * The setNextReminder method sets the timer for the reminder at the head of the queue, replacing the previous
+         * timer
+         */
+        private void setNextReminder() {
+            if (nextReminder != null) {
+                nextReminder.cancel(false);
+                nextReminder = null;
+            }
+            if (discardReplaced()) {
+                long delay = Math.max(0, queue.peek()
+                                              .remindAt() - System.currentTimeMillis());
+                nextReminder = executor.schedule(() -> remindDue(false), delay, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * The discardReplaced method removes the reminders at the head of the queue that were replaced or cancelled
+         *
+         * @return Returns a boolean specifying if the queue has a current reminder at its head
+         */
+        private boolean discardReplaced() {
+            Reminder head;
+            while ((head = queue.peek()) != null && reminders.get(head.appointment()
+                                                                      .getId()) != head) {
+                queue.poll();
+            }
+            return head != null;
+        }
+    }
+}
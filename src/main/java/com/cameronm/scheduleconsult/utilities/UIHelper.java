@@ -123,39 +123,109 @@ public abstract class UIHelper {
     }
 
     /**
-     * The filterIntervals method filters the combo boxes based on the week/month and year selected
+     * The filterIntervals method returns the appointments within the week/month and year selected. The selections are
+     * passed in as values rather than read from the controls, so the query can run off the JavaFX application thread.
      *
-     * @param yearComboBox     The combo box displaying years
-     * @param intervalComboBox The combo box displaying weeks or months
-     * @param weekRadioButton  The week radio button
-     * @param monthRadioButton The month radio button
+     * @param year          The year selected, or null to return every appointment
+     * @param interval      The week or month selected, or null for the whole year
+     * @param weekSelected  Boolean specifying if the week radio button is selected
+     * @param monthSelected Boolean specifying if the month radio button is selected
      * @return Returns a list of appointments selected within the range of the combo box selections
      */
-    public static ObservableList<Appointment> filterIntervals(ComboBox<Year> yearComboBox,
-                                                              ComboBox<LocalDate> intervalComboBox,
-                                                              RadioButton weekRadioButton,
-                                                              RadioButton monthRadioButton) {
-        Year year = yearComboBox.getValue();
-        LocalDate interval = intervalComboBox.getValue();
+    public static ObservableList<Appointment> filterIntervals(Year year,
+                                                              LocalDate interval,
+                                                              boolean weekSelected,
+                                                              boolean monthSelected) {
         if (year != null) {
-            LocalDateTime start = null;
-            LocalDateTime end = null;
-            if (interval != null) {
-                if (weekRadioButton.isSelected()) {
-                    start = interval.atStartOfDay();
-                    LocalDate nextSaturday = interval.with(TemporalAdjusters.next(DayOfWeek.SATURDAY));
-                    end = LocalDateTime.of(nextSaturday, LocalTime.MAX);
-                } else if (monthRadioButton.isSelected()) {
-                    start = LocalDateTime.of(year.getValue(), interval.getMonth(), 1, 0, 0, 0);
-                    end = LocalDateTime.of(year.getValue(), interval.getMonth(), interval.lengthOfMonth(), 23, 59, 59);
-                }
-                assert start != null;
-            } else {
-                start = year.atDay(1).atStartOfDay();
-                end = start.plusYears(1).minusSeconds(1);
-            }
-            return AppointmentQueryService.getAppointmentsInRange(Timestamp.valueOf(start), Timestamp.valueOf(end));
+            LocalDateTime[] range = intervalRange(year, interval, weekSelected, monthSelected);
+            return AppointmentQueryService.getAppointmentsInRange(range[0].toLocalDate(), range[0].toLocalTime(),
+                                                                  range[1].toLocalDate(), range[1].toLocalTime());
         }
         return AppointmentQueryService.getAllAppointments();
     }
+
+    /**
+     * The isInInterval method returns a boolean specifying if an appointment is returned by filterIntervals for the
+     * week/month and year selected
+     *
+     * @param appointment   The appointment
+     * @param year          The year selected, or null for every appointment
+     * @param interval      The week or month selected, or null for the whole year
+     * @param weekSelected  Boolean specifying if the week radio button is selected
+     * @param monthSelected Boolean specifying if the month radio button is selected
+     * @return Returns a boolean specifying if the appointment starts within the range of the combo box selections
+     */
+    public static boolean isInInterval(Appointment appointment,
+                                       Year year,
+                                       LocalDate interval,
+                                       boolean weekSelected,
+                                       boolean monthSelected) {
+        if (year == null) {
+            return true;
+        }
+        LocalDateTime[] range = intervalRange(year, interval, weekSelected, monthSelected);
+        LocalDateTime start = appointment.getStart()
+                                         .toLocalDateTime();
+        return !start.isBefore(range[0]) && !start.isAfter(range[1]);
+    }
+
+    /**
+     * The intervalRange method returns the start and end of the week/month and year selected
+     *
+     * @param year          The year selected
+     * @param interval      The week or month selected, or null for the whole year
+     * @param weekSelected  Boolean specifying if the week radio button is selected
+     * @param monthSelected Boolean specifying if the month radio button is selected
+     * @return Returns an array holding the start and end of the range, in the local timezone
+     */
+    private static LocalDateTime[] intervalRange(Year year,
+                                                 LocalDate interval,
+                                                 boolean weekSelected,
+                                                 boolean monthSelected) {
+        LocalDateTime start = null;
+        LocalDateTime end = null;
+        if (interval != null) {
+            if (weekSelected) {
+                start = interval.atStartOfDay();
+                LocalDate nextSaturday = interval.with(TemporalAdjusters.next(DayOfWeek.SATURDAY));
+                end = LocalDateTime.of(nextSaturday, LocalTime.MAX);
+            } else if (monthSelected) {
+                start = LocalDateTime.of(year.getValue(), interval.getMonth(), 1, 0, 0, 0);
+                end = LocalDateTime.of(year.getValue(), interval.getMonth(), interval.lengthOfMonth(), 23, 59, 59);
+            }
+            assert start != null;
+        } else {
+            start = year.atDay(1).atStartOfDay();
+            end = start.plusYears(1).minusSeconds(1);
+        }
+        return new LocalDateTime[]{start, end};
+    }
+
+    /**
+     * The patchEntityTable method shows a saved entity in a table view in place of the entity with the same ID,
+     * adding it if it is not shown yet, or removes the entity with that ID if the saved entity should not be shown
+     *
+     * @param entity    The entity that was saved
+     * @param shown     Boolean specifying if the entity should be shown in the table view
+     * @param tableView The table view displaying the entities
+     * @param <T>       The type of entity which must extend NamedEntity
+     */
+    public static <T extends NamedEntity> void patchEntityTable(T entity, boolean shown, TableView<T> tableView) {
+        ObservableList<T> items = tableView.getItems();
+        int index = 0;
+        while (index < items.size() && items.get(index)
+                                            .getId() != entity.getId()) {
+            index++;
+        }
+        if (!shown) {
+            if (index < items.size()) {
+                items.remove(index);
+            }
+        } else if (index < items.size()) {
+            items.set(index, entity);
+        } else {
+            items.add(entity);
+            tableView.sort();
+        }
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.cameronm.scheduleconsult.views;
 import com.cameronm.scheduleconsult.DAO.DBModels;
 import com.cameronm.scheduleconsult.Main;
 import com.cameronm.scheduleconsult.models.NamedEntity;
+import com.cameronm.scheduleconsult.services.ImportResult;
 import javafx.animation.PauseTransition;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -114,6 +115,35 @@ public interface AlertHandler {
                      Color.valueOf("#2A9D8F"));
     }
 
+    /**
+     * The importSummary method displays a popup with the number of rows imported from a file and the reason each
+     * rejected row was not saved
+     *
+     * @param model  The type of database entity model imported
+     * @param result The result of the import
+     */
+    static void importSummary(DBModels model, ImportResult result) {
+        String header = String.format("%d %s imported, %d rejected",
+                                      result.imported(),
+                                      model.getTableName(),
+                                      result.rejects()
+                                            .size());
+        if (result.rejects()
+                  .isEmpty()) {
+            popupPrompt(Alert.AlertType.INFORMATION, "Import Complete", header, "");
+            return;
+        }
+        StringBuilder content = new StringBuilder();
+        for (ImportResult.Reject reject : result.rejects()) {
+            content.append("Line ")
+                   .append(reject.lineNumber())
+                   .append(": ")
+                   .append(reject.reason())
+                   .append("\n");
+        }
+        popupExpandablePrompt(Alert.AlertType.WARNING, "Import Complete", header, content.toString());
+    }
+
     /**
      * The logOut method displays a popup asking if the user would like to log out
      *
@@ -0,0 +1,94 @@
+-- The sample data of the client_schedule database, added when the embedded database is created
+
+INSERT INTO countries (Country_ID, Country, Create_Date, Created_By, Last_Update, Last_Updated_By) VALUES
+    (1, 'U.S', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script'),
+    (2, 'UK', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script'),
+    (3, 'Canada', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script');
+
+INSERT INTO first_level_divisions (Division_ID, Division, Create_Date, Created_By, Last_Update, Last_Updated_By, Country_ID) VALUES
+    (1, 'Alabama', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (2, 'Arizona', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (3, 'Arkansas', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (4, 'California', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (5, 'Colorado', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (6, 'Connecticut', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (7, 'Delaware', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (8, 'District of Columbia', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (9, 'Florida', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (10, 'Georgia', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (11, 'Idaho', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (12, 'Illinois', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (13, 'Indiana', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (14, 'Iowa', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (15, 'Kansas', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (16, 'Kentucky', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (17, 'Louisiana', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (18, 'Maine', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (19, 'Maryland', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (20, 'Massachusetts', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (21, 'Michigan', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (22, 'Minnesota', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (23, 'Mississippi', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (24, 'Missouri', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (25, 'Montana', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (26, 'Nebraska', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (27, 'Nevada', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (28, 'New Hampshire', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (29, 'New Jersey', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (30, 'New Mexico', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (31, 'New York', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (32, 'North Carolina', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (33, 'North Dakota', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (34, 'Ohio', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (35, 'Oklahoma', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (36, 'Oregon', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (37, 'Pennsylvania', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (38, 'Rhode Island', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (39, 'South Carolina', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (40, 'South Dakota', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (41, 'Tennessee', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (42, 'Texas', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (43, 'Utah', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (44, 'Vermont', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (45, 'Virginia', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (46, 'Washington', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (47, 'West Virginia', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (48, 'Wisconsin', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (49, 'Wyoming', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (50, 'Hawaii', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (51, 'Alaska', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1),
+    (60, 'Northwest Territories', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (61, 'Alberta', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (62, 'British Columbia', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (63, 'Manitoba', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (64, 'New Brunswick', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (65, 'Nova Scotia', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (66, 'Prince Edward Island', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (67, 'Ontario', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (68, 'Québec', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (69, 'Saskatchewan', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (70, 'Nunavut', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (71, 'Yukon', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (72, 'Newfoundland and Labrador', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 3),
+    (101, 'England', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 2),
+    (102, 'Wales', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 2),
+    (103, 'Scotland', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 2),
+    (104, 'Northern Ireland', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 2);
+
+INSERT INTO users (User_ID, User_Name, Password, Create_Date, Created_By, Last_Update, Last_Updated_By) VALUES
+    (1, 'test', 'test', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script'),
+    (2, 'admin', 'admin', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script');
+
+INSERT INTO contacts (Contact_ID, Contact_Name, Email) VALUES
+    (1, 'Anika Costa', 'acoasta@company.com'),
+    (2, 'Daniel Garcia', 'dgarcia@company.com'),
+    (3, 'Li Lee', 'llee@company.com');
+
+INSERT INTO customers (Customer_ID, Customer_Name, Address, Postal_Code, Phone, Create_Date, Created_By, Last_Update, Last_Updated_By, Division_ID) VALUES
+    (1, 'Daddy Warbucks', '1919 Boardwalk', '01291', '869-908-1875', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 29),
+    (2, 'Lady McAnderson', '2 Wonder Way', 'AF19B', '11-445-910-2135', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 103),
+    (3, 'Dudley Do-Right', '48 Horse Manor', '28198', '874-916-2671', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 60);
+
+INSERT INTO appointments (Appointment_ID, Title, Description, Location, Type, Start, End, Create_Date, Created_By, Last_Update, Last_Updated_By, Customer_ID, User_ID, Contact_ID) VALUES
+    (1, 'title', 'description', 'location', 'Planning Session', '2023-03-06 12:00:00', '2023-03-06 13:00:00', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 1, 1, 3),
+    (2, 'title', 'description', 'location', 'De-Briefing', '2023-03-07 12:00:00', '2023-03-07 13:00:00', '2023-01-01 00:00:00', 'script', '2023-01-01 00:00:00', 'script', 2, 2, 2);
@@ -0,0 +1,90 @@
+-- The client_schedule schema, created in the embedded database when the program opens it
+-- Datetime values are stored in UTC, as they are on the MySQL server
+
+CREATE TABLE IF NOT EXISTS countries (
+    Country_ID      INT AUTO_INCREMENT PRIMARY KEY,
+    Country         VARCHAR(50),
+    Create_Date     DATETIME,
+    Created_By      VARCHAR(50),
+    Last_Update     TIMESTAMP,
+    Last_Updated_By VARCHAR(50)
+);
+
+CREATE TABLE IF NOT EXISTS first_level_divisions (
+    Division_ID     INT AUTO_INCREMENT PRIMARY KEY,
+    Division        VARCHAR(50),
+    Create_Date     DATETIME,
+    Created_By      VARCHAR(50),
+    Last_Update     TIMESTAMP,
+    Last_Updated_By VARCHAR(50),
+    Country_ID      INT NOT NULL,
+    CONSTRAINT fk_country_id FOREIGN KEY (Country_ID) REFERENCES countries (Country_ID)
+);
+
+CREATE TABLE IF NOT EXISTS customers (
+    Customer_ID     INT AUTO_INCREMENT PRIMARY KEY,
+    Customer_Name   VARCHAR(50),
+    Address         VARCHAR(100),
+    Postal_Code     VARCHAR(50),
+    Phone           VARCHAR(50),
+    Create_Date     DATETIME,
+    Created_By      VARCHAR(50),
+    Last_Update     TIMESTAMP,
+    Last_Updated_By VARCHAR(50),
+    Division_ID     INT NOT NULL,
+    CONSTRAINT fk_division_id FOREIGN KEY (Division_ID) REFERENCES first_level_divisions (Division_ID)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    User_ID         INT AUTO_INCREMENT PRIMARY KEY,
+    User_Name       VARCHAR(50) UNIQUE,
+    Password        TEXT,
+    Create_Date     DATETIME,
+    Created_By      VARCHAR(50),
+    Last_Update     TIMESTAMP,
+    Last_Updated_By VARCHAR(50)
+);
+
+CREATE TABLE IF NOT EXISTS contacts (
+    Contact_ID   INT AUTO_INCREMENT PRIMARY KEY,
+    Contact_Name VARCHAR(50),
+    Email        VARCHAR(50)
+);
+
+CREATE TABLE IF NOT EXISTS appointments (
+    Appointment_ID  INT AUTO_INCREMENT PRIMARY KEY,
+    Title           VARCHAR(50),
+    Description     VARCHAR(50),
+    Location        VARCHAR(50),
+    Type            VARCHAR(50),
+    Start           DATETIME,
+    End             DATETIME,
+    Create_Date     DATETIME,
+    Created_By      VARCHAR(50),
+    Last_Update     TIMESTAMP,
+    Last_Updated_By VARCHAR(50),
+    Customer_ID     INT NOT NULL,
+    User_ID         INT NOT NULL,
+    Contact_ID      INT NOT NULL,
+    CONSTRAINT fk_customer_id FOREIGN KEY (Customer_ID) REFERENCES customers (Customer_ID),
+    CONSTRAINT fk_user_id FOREIGN KEY (User_ID) REFERENCES users (User_ID),
+    CONSTRAINT fk_contact_id FOREIGN KEY (Contact_ID) REFERENCES contacts (Contact_ID)
+);
+
+-- The indexes the paged tables, searches, reminders and reports filter and sort on
+
+CREATE INDEX IF NOT EXISTS idx_appointments_start ON appointments (Start, Appointment_ID);
+
+CREATE INDEX IF NOT EXISTS idx_appointments_customer_start ON appointments (Customer_ID, Start);
+
+CREATE INDEX IF NOT EXISTS idx_appointments_contact_start ON appointments (Contact_ID, Start);
+
+CREATE INDEX IF NOT EXISTS idx_appointments_user_start ON appointments (User_ID, Start);
+
+CREATE INDEX IF NOT EXISTS idx_appointments_user_last_update ON appointments (User_ID, Last_Update);
+
+CREATE INDEX IF NOT EXISTS idx_customers_name ON customers (Customer_Name, Customer_ID);
+
+CREATE INDEX IF NOT EXISTS idx_customers_phone ON customers (Phone, Customer_ID);
+
+CREATE INDEX IF NOT EXISTS idx_customers_postal_code ON customers (Postal_Code, Customer_ID);